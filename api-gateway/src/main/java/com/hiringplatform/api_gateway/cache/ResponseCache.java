@@ -0,0 +1,273 @@
+package com.hiringplatform.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded store of public GET responses keyed by path and query.
+ * Bodies live in direct buffers outside the Java heap; the store is bounded by total body bytes,
+ * and each entry expires after the TTL its Cache-Control allows.
+ * Publishes 'gateway.response.cache' cache metrics plus per-route request counters and hit ratio.
+ */
+@Component
+public class ResponseCache {
+
+    private static final String REQUESTS_METER = "gateway.response.cache.requests";
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final Duration defaultTtl;
+
+    private final Duration maxTtl;
+
+    private final int maxEntryBytes;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    /**
+     * Stored response.
+     * @param status HTTP status code
+     * @param headers Response headers to replay, without hop-by-hop, length and CORS headers
+     * @param body Read-only direct buffer holding the body; duplicate before reading
+     * @param storedAtMillis Time the response was stored, for the Age header
+     * @param ttl Time to live
+     */
+    public record CachedResponse(int status, HttpHeaders headers, ByteBuffer body, long storedAtMillis, Duration ttl) {
+    }
+
+    public ResponseCache(@Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${gateway.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                         @Value("${gateway.response-cache.ttl-seconds:10}") long ttlSeconds,
+                         @Value("${gateway.response-cache.max-ttl-seconds:300}") long maxTtlSeconds,
+                         MeterRegistry meterRegistry) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.defaultTtl = Duration.ofSeconds(ttlSeconds);
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse value) -> key.length() + value.body().capacity())
+                .expireAfter(new EntryTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+        Gauge.builder("gateway.response.cache.bytes", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .description("Response bytes held off-heap by the gateway response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a live stored response.
+     * @param key Path and query
+     * @return Stored response, or null
+     */
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Stores a response whose body was already written into a direct buffer, unless its Cache-Control forbids storing.
+     * The buffer is kept as a read-only view, not copied; its full capacity counts against the size bound.
+     * @param key Path and query
+     * @param status HTTP status code
+     * @param headers Response headers
+     * @param body Direct buffer holding the body between its position and limit
+     * @return Stored response, or null if the response may not be stored
+     */
+    public CachedResponse put(String key, int status, HttpHeaders headers, ByteBuffer body) {
+        Duration ttl = ttlFor(headers, defaultTtl, maxTtl);
+        if (ttl.isZero() || body.remaining() > maxEntryBytes) {
+            return null;
+        }
+        HttpHeaders replay = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (replayable(name)) {
+                replay.put(name, values);
+            }
+        });
+        CachedResponse response = new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(replay), body.asReadOnlyBuffer(),
+                System.currentTimeMillis(), ttl);
+        cache.put(key, response);
+        return response;
+    }
+
+    /**
+     * Returns the largest body that will be stored.
+     * @return Size limit in bytes
+     */
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Counts a request answered from the cache, including one that waited for a concurrent miss.
+     * @param route Gateway route ID
+     */
+    public void recordHit(String route) {
+        stats(route).hits.increment();
+    }
+
+    /**
+     * Counts a request sent upstream.
+     * @param route Gateway route ID
+     */
+    public void recordMiss(String route) {
+        stats(route).misses.increment();
+    }
+
+    /**
+     * Decides how long a response may be stored from its Cache-Control header.
+     * no-store, no-cache, private and Set-Cookie forbid storing; s-maxage, then max-age, override the default TTL.
+     * @param headers Response headers
+     * @param defaultTtl TTL when Cache-Control gives none
+     * @param maxTtl Upper bound on any TTL
+     * @return TTL, or zero if the response must not be stored
+     */
+    static Duration ttlFor(HttpHeaders headers, Duration defaultTtl, Duration maxTtl) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return Duration.ZERO;
+        }
+        Long maxAge = null;
+        Long sharedMaxAge = null;
+        for (String d : directives(headers)) {
+            if (d.equals("no-store") || d.equals("no-cache") || d.equals("private")) {
+                return Duration.ZERO;
+            }
+            if (d.startsWith("s-maxage=")) {
+                sharedMaxAge = seconds(d.substring("s-maxage=".length()));
+            } else if (d.startsWith("max-age=")) {
+                maxAge = seconds(d.substring("max-age=".length()));
+            }
+        }
+        Long seconds = sharedMaxAge != null ? sharedMaxAge : maxAge;
+        Duration ttl = seconds != null ? Duration.ofSeconds(seconds) : defaultTtl;
+        return ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl;
+    }
+
+    /**
+     * Checks whether a request's Cache-Control asks to bypass stored responses.
+     * @param headers Request headers
+     * @return True for no-cache or no-store
+     */
+    public static boolean bypassRequested(HttpHeaders headers) {
+        List<String> directives = directives(headers);
+        return directives.contains("no-cache") || directives.contains("no-store");
+    }
+
+    /**
+     * Checks whether a request's Cache-Control forbids storing the response it gets.
+     * @param headers Request headers
+     * @return True for no-store
+     */
+    public static boolean storeForbidden(HttpHeaders headers) {
+        return directives(headers).contains("no-store");
+    }
+
+    /**
+     * Splits every Cache-Control value into trimmed, lower-case directives.
+     */
+    private static List<String> directives(HttpHeaders headers) {
+        List<String> directives = new ArrayList<>();
+        for (String value : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : value.split(",")) {
+                String d = directive.trim().toLowerCase(Locale.ROOT);
+                if (!d.isEmpty()) {
+                    directives.add(d);
+                }
+            }
+        }
+        return directives;
+    }
+
+    /**
+     * Leaves out length and hop-by-hop headers, and the CORS headers the gateway computes per request.
+     */
+    private static boolean replayable(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return !lower.equals("content-length") && !lower.equals("transfer-encoding") && !lower.equals("connection")
+                && !lower.equals("vary") && !lower.startsWith("access-control-");
+    }
+
+    private static long seconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private RouteStats stats(String route) {
+        return routeStats.computeIfAbsent(route, this::register);
+    }
+
+    private RouteStats register(String route) {
+        RouteStats stats = new RouteStats();
+        FunctionCounter.builder(REQUESTS_METER, stats.hits, LongAdder::sum)
+                .tags("route", route, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(REQUESTS_METER, stats.misses, LongAdder::sum)
+                .tags("route", route, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("gateway.response.cache.hit.ratio", stats, RouteStats::hitRatio)
+                .tag("route", route)
+                .description("Fraction of cacheable requests on the route answered by the gateway")
+                .register(meterRegistry);
+        return stats;
+    }
+
+    /**
+     * Hit and miss counts of one route.
+     */
+    private static class RouteStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private double hitRatio() {
+            long h = hits.sum();
+            long total = h + misses.sum();
+            return total == 0 ? 0 : (double) h / total;
+        }
+    }
+
+    /**
+     * Expiry policy giving each entry the TTL computed when it was stored.
+     */
+    private static class EntryTtl implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hiringplatform.api_gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hiringplatform.api_gateway.util.VerifiedPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified JWT principals keyed by SHA-256 digest of the raw token.
+ * Entries expire exactly at the token's exp claim, so a hit never outlives the token.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedPrincipal> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") long maxSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.jwt.verified");
+    }
+
+    /**
+     * Returns cached principal for token, verifying and caching it on a miss.
+     * Exceptions thrown by the verifier propagate and nothing is cached.
+     * @param token Raw JWT string
+     * @param verifier Function that fully verifies the token, throwing if it is invalid
+     * @return Verified principal
+     */
+    public VerifiedPrincipal get(String token, Function<String, VerifiedPrincipal> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Returns hit/miss/eviction counters accumulated since startup.
+     * @return Caffeine cache statistics snapshot
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Computes the cache key for a token.
+     * @param token Raw JWT string
+     * @return Base64url SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expiry policy pinning each entry's lifetime to its token's exp claim.
+     */
+    private static class ExpireAtTokenExpiry implements Expiry<String, VerifiedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedPrincipal value, long currentTime) {
+            long remainingMillis = value.getExpirationMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
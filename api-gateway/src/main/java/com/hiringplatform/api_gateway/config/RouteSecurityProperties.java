@@ -0,0 +1,79 @@
+package com.hiringplatform.api_gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route access rules bound from 'route-security.rules[n]' properties.
+ * Compiled once into a lookup table by RouteValidator at startup.
+ */
+@Component
+@ConfigurationProperties(prefix = "route-security")
+public class RouteSecurityProperties {
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Access level granted by a rule.
+     */
+    public enum Access {
+        PUBLIC,
+        AUTHENTICATED,
+        ROLE
+    }
+
+    /**
+     * Single path rule; an empty method list applies the rule to every method.
+     */
+    public static class Rule {
+
+        private String path;
+        private List<HttpMethod> methods = new ArrayList<>();
+        private Access access = Access.AUTHENTICATED;
+        private List<String> roles = new ArrayList<>();
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public List<HttpMethod> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<HttpMethod> methods) {
+            this.methods = methods;
+        }
+
+        public Access getAccess() {
+            return access;
+        }
+
+        public void setAccess(Access access) {
+            this.access = access;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+    }
+}
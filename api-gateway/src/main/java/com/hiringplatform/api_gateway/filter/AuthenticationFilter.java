@@ -1,9 +1,10 @@
 package com.hiringplatform.api_gateway.filter;
 
+import com.hiringplatform.api_gateway.cache.VerifiedTokenCache;
 import com.hiringplatform.api_gateway.util.JwtUtil;
+import com.hiringplatform.api_gateway.util.VerifiedPrincipal;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.security.SignatureException;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
@@ -30,6 +31,9 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     public AuthenticationFilter() {
         super(Config.class);
     }
@@ -55,11 +59,9 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
             }
             String token = authHeader.substring(7);
             try {
-                if (!jwtUtil.validateToken(token)) {
-                     return onError(exchange, HttpStatus.UNAUTHORIZED, "JWT Token is invalid or expired");
-                }
-                String username = jwtUtil.extractUsername(token);
-                List<String> roles = jwtUtil.extractRoles(token);
+                VerifiedPrincipal principal = verifiedTokenCache.get(token, jwtUtil::parse);
+                String username = principal.getUsername();
+                List<String> roles = principal.getRoles();
                 if (!validator.isAuthorized(request, roles)) {
                    return onError(exchange, HttpStatus.FORBIDDEN, "Access Denied: User does not have the required role for this resource");
                 }
@@ -70,7 +72,7 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 return chain.filter(exchange.mutate().request(modifiedRequest).build());
             } catch (ExpiredJwtException e) {
                  return onError(exchange, HttpStatus.UNAUTHORIZED, "JWT Token has expired");
-            } catch (SignatureException | MalformedJwtException e) {
+            } catch (JwtException | IllegalArgumentException e) {
                  return onError(exchange, HttpStatus.UNAUTHORIZED, "JWT Token is invalid");
             } catch (Exception e) {
                 return onError(exchange, HttpStatus.INTERNAL_SERVER_ERROR, "Error processing JWT token");
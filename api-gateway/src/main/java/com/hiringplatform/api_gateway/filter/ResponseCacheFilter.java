@@ -0,0 +1,248 @@
+package com.hiringplatform.api_gateway.filter;
+
+import com.hiringplatform.api_gateway.cache.ResponseCache;
+import com.hiringplatform.api_gateway.cache.ResponseCache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers public GET requests from the gateway response cache, before discovery and load balancing.
+ * Misses are forwarded once per key: concurrent requests for the same path and query wait for the
+ * first one's response instead of going upstream themselves.
+ * Responses are stored only when they are 200, not streamed, within the size limit and allowed by Cache-Control.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private static final int INITIAL_COPY_BYTES = 8192;
+
+    @Autowired
+    private RouteValidator validator;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${gateway.response-cache.enabled:true}")
+    private boolean enabled;
+
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Serves a stored response, joins an in-flight miss, or forwards the request and stores its response.
+     * @param exchange Current exchange
+     * @param chain Remaining filters
+     * @return Completion of the response
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!enabled || request.getMethod() != HttpMethod.GET || !validator.isPublic(request)
+                || request.getHeaders().containsKey(HttpHeaders.RANGE)) {
+            return chain.filter(exchange);
+        }
+        String route = routeId(exchange);
+        String key = keyOf(request);
+        if (ResponseCache.bypassRequested(request.getHeaders())) {
+            responseCache.recordMiss(route);
+            return forward(exchange, chain, key, null);
+        }
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            responseCache.recordHit(route);
+            return serve(exchange, cached);
+        }
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            // Decide on the leader's result itself: serve() completes empty, so switchIfEmpty would forward hits too
+            return Mono.fromFuture(leader.copy())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(response -> {
+                        if (response.isPresent()) {
+                            responseCache.recordHit(route);
+                            return serve(exchange, response.get());
+                        }
+                        responseCache.recordMiss(route);
+                        return forward(exchange, chain, key, null);
+                    });
+        }
+        responseCache.recordMiss(route);
+        return forward(exchange, chain, key, flight);
+    }
+
+    /**
+     * Runs before NettyWriteResponseFilter so the response body can be captured as it is written.
+     * @return Filter order
+     */
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Forwards a request upstream, storing the response and handing it to any requests waiting on this key.
+     * @param flight Future waiters are joined to, or null when no request waits on this one
+     */
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                               CompletableFuture<CachedResponse> flight) {
+        boolean store = !ResponseCache.storeForbidden(exchange.getRequest().getHeaders());
+        CachingResponse response = new CachingResponse(exchange.getResponse(), key, store);
+        Mono<Void> forwarded = chain.filter(exchange.mutate().response(response).build());
+        if (flight == null) {
+            return forwarded;
+        }
+        return forwarded.doFinally(signal -> {
+            inFlight.remove(key, flight);
+            flight.complete(response.stored);
+        });
+    }
+
+    /**
+     * Writes a stored response, or 304 when the client already holds its ETag.
+     */
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        String eTag = cached.headers().getETag();
+        if (eTag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(eTag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(eTag);
+            response.getHeaders().set(CACHE_HEADER, "HIT");
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().remaining());
+        response.getHeaders().set(HttpHeaders.AGE,
+                Long.toString(Math.max(0, (System.currentTimeMillis() - cached.storedAtMillis()) / 1000)));
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+        ByteBuffer body = cached.body().duplicate();
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    private static String keyOf(ServerHttpRequest request) {
+        String path = request.getURI().getRawPath();
+        String query = request.getURI().getRawQuery();
+        return query == null ? path : path + "?" + query;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    /**
+     * Response that copies the body into one direct buffer as it streams to the client and stores it once complete.
+     * The buffer is sized from Content-Length when present and grown by doubling otherwise.
+     * Streamed responses, non-200 responses and bodies over the size limit pass through without being kept.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+
+        private boolean capturing;
+
+        private ByteBuffer copy;
+
+        private volatile CachedResponse stored;
+
+        private CachingResponse(ServerHttpResponse delegate, String key, boolean store) {
+            super(delegate);
+            this.key = key;
+            this.capturing = store;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            getHeaders().set(CACHE_HEADER, "MISS");
+            if (!capturing || !HttpStatus.OK.equals(getStatusCode()) || isStreaming(getHeaders().getContentType())) {
+                capturing = false;
+                return super.writeWith(body);
+            }
+            Flux<? extends DataBuffer> tee = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        if (!capturing) {
+                            return;
+                        }
+                        int length = buffer.readableByteCount();
+                        int size = copy == null ? 0 : copy.position();
+                        if (size + length > responseCache.getMaxEntryBytes()) {
+                            capturing = false;
+                            copy = null;
+                            return;
+                        }
+                        ensureCapacity(size + length);
+                        buffer.toByteBuffer(buffer.readPosition(), copy, size, length);
+                        copy.position(size + length);
+                    })
+                    .doOnComplete(() -> {
+                        if (capturing) {
+                            ByteBuffer captured = copy != null ? copy.flip() : ByteBuffer.allocateDirect(0);
+                            stored = responseCache.put(key, HttpStatus.OK.value(), getHeaders(), captured);
+                        }
+                    });
+            return super.writeWith(tee);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            capturing = false;
+            return super.writeAndFlushWith(body);
+        }
+
+        /**
+         * Makes the copy buffer hold at least the given number of bytes, moving what it already holds when it grows.
+         */
+        private void ensureCapacity(int required) {
+            if (copy != null && copy.capacity() >= required) {
+                return;
+            }
+            long contentLength = getHeaders().getContentLength();
+            int capacity;
+            if (copy == null && contentLength >= required && contentLength <= responseCache.getMaxEntryBytes()) {
+                capacity = (int) contentLength;
+            } else {
+                int current = copy == null ? INITIAL_COPY_BYTES / 2 : copy.capacity();
+                capacity = (int) Math.min(responseCache.getMaxEntryBytes(), Math.max(required, 2L * current));
+            }
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+            if (copy != null) {
+                grown.put(copy.flip());
+            }
+            copy = grown;
+        }
+
+        private boolean isStreaming(MediaType contentType) {
+            return contentType != null && (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                    || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType));
+        }
+    }
+}
@@ -1,66 +1,59 @@
 package com.hiringplatform.api_gateway.filter;
 
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties.Access;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Validates route access based on public endpoints and user roles.
- * Determines which routes require authentication and specific role permissions.
+ * Rules from RouteSecurityProperties are compiled at startup into PathPatterns indexed by
+ * HTTP method and first path segment, so each check is one map lookup plus a short scan.
  */
 @Component
 public class RouteValidator {
 
-    public static final Set<String> publicApiEndpoints = Set.of(
-            "/register",
-            "/login",
-            "/posts/all",
-            "/posts/search/**",
-            "/posts/{id}"
-    );
-
-    public static final Map<String, Map<HttpMethod, List<String>>> roleSpecificEndpoints = Map.of(
-            "RECRUITER", Map.of(
-                    HttpMethod.POST, List.of("/posts/add")
-            ),
-            "JOB_SEEKER", Map.of(
-                    HttpMethod.POST, List.of(
-                        "/posts/apply/**",
-                        "/candidate/profile"
-                    )
-            )
-    );
-
-     public static final Map<HttpMethod, List<String>> authenticatedEndpoints = Map.of(
-        HttpMethod.GET, List.of(
-             "/candidate/profile/**"
-        )
-     );
-
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Map<HttpMethod, MethodTable> tables = new HashMap<>();
+
+    public RouteValidator(RouteSecurityProperties properties) {
+        PathPatternParser parser = new PathPatternParser();
+        Map<HttpMethod, List<CompiledRule>> rulesByMethod = new HashMap<>();
+        for (RouteSecurityProperties.Rule rule : properties.getRules()) {
+            CompiledRule compiled = compile(parser, rule);
+            List<HttpMethod> methods = rule.getMethods().isEmpty() ? List.of(HttpMethod.values()) : rule.getMethods();
+            for (HttpMethod method : methods) {
+                rulesByMethod.computeIfAbsent(method, m -> new ArrayList<>()).add(compiled);
+            }
+        }
+        rulesByMethod.forEach((method, rules) -> tables.put(method, new MethodTable(rules)));
+    }
 
     /**
      * Checks if request matches public endpoints requiring no authentication.
      * @param request Server HTTP request
      * @return True if route is public, false otherwise
      */
-     public boolean isPublic(ServerHttpRequest request) {
-        String path = request.getURI().getPath();
+    public boolean isPublic(ServerHttpRequest request) {
         HttpMethod method = request.getMethod();
-
         if (method == HttpMethod.OPTIONS) {
             return true;
         }
-
-        return publicApiEndpoints.stream().anyMatch(
-                pattern -> pathMatcher.match(pattern, path) &&
-                           (method == HttpMethod.GET || pattern.equals("/register") || pattern.equals("/login"))
-        );
+        PathContainer path = request.getPath().pathWithinApplication();
+        Bucket bucket = lookup(method, path);
+        return bucket != null && anyMatch(bucket.publicRules, path);
     }
 
     /**
@@ -73,22 +66,146 @@ public class RouteValidator {
         if (userRoles == null || userRoles.isEmpty()) {
             return false;
         }
-        String requestPath = request.getURI().getPath();
-        HttpMethod requestMethod = request.getMethod();
-        List<String> allowedForAnyAuth = authenticatedEndpoints.get(requestMethod);
-        if (allowedForAnyAuth != null && allowedForAnyAuth.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestPath))) {
+        PathContainer path = request.getPath().pathWithinApplication();
+        Bucket bucket = lookup(request.getMethod(), path);
+        if (bucket == null) {
+            return false;
+        }
+        if (anyMatch(bucket.authenticatedRules, path)) {
             return true;
         }
-        for (String roleWithPrefix : userRoles) {
-            String simpleRole = roleWithPrefix.replace("ROLE_", "");
-            Map<HttpMethod, List<String>> methodToPathsMap = roleSpecificEndpoints.get(simpleRole);
-            if (methodToPathsMap != null) {
-                List<String> allowedPaths = methodToPathsMap.get(requestMethod);
-                 if (allowedPaths != null && allowedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, requestPath))) {
-                    return true;
-                 }
+        for (CompiledRule rule : bucket.roleRules) {
+            if (rule.pattern.matches(path) && rule.allowsAny(userRoles)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the candidate rules for a method and path.
+     * @param method Request method
+     * @param path Parsed request path
+     * @return Bucket of candidate rules, or null if no rule covers the method
+     */
+    private Bucket lookup(HttpMethod method, PathContainer path) {
+        MethodTable table = tables.get(method);
+        if (table == null) {
+            return null;
+        }
+        Bucket bucket = table.bySegment.get(firstSegment(path));
+        return bucket != null ? bucket : table.fallback;
+    }
+
+    private static boolean anyMatch(CompiledRule[] rules, PathContainer path) {
+        for (CompiledRule rule : rules) {
+            if (rule.pattern.matches(path)) {
+                return true;
             }
         }
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the first decoded path segment without allocating.
+     * @param path Parsed request path
+     * @return First segment value, or empty string for the root path
+     */
+    private static String firstSegment(PathContainer path) {
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                return segment.valueToMatch();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns the literal first segment of a pattern, or null if it contains wildcards or variables.
+     * @param pattern Path pattern string
+     * @return Literal first segment or null
+     */
+    private static String literalFirstSegment(String pattern) {
+        String trimmed = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        int slash = trimmed.indexOf('/');
+        String segment = slash >= 0 ? trimmed.substring(0, slash) : trimmed;
+        if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0 || segment.indexOf('?') >= 0) {
+            return null;
+        }
+        return segment;
+    }
+
+    private static CompiledRule compile(PathPatternParser parser, RouteSecurityProperties.Rule rule) {
+        if (rule.getPath() == null || rule.getPath().isBlank()) {
+            throw new IllegalArgumentException("route-security rule is missing a path");
+        }
+        if (rule.getAccess() == Access.ROLE && rule.getRoles().isEmpty()) {
+            throw new IllegalArgumentException("route-security rule for " + rule.getPath() + " requires roles");
+        }
+        Set<String> roles = new HashSet<>();
+        for (String role : rule.getRoles()) {
+            String simpleRole = role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role;
+            roles.add(simpleRole);
+            roles.add(ROLE_PREFIX + simpleRole);
+        }
+        return new CompiledRule(parser.parse(rule.getPath()), rule.getAccess(),
+                literalFirstSegment(rule.getPath()), Set.copyOf(roles));
+    }
+
+    /**
+     * Precompiled rule; roles hold both plain and ROLE_-prefixed forms so checks need no string work.
+     */
+    private record CompiledRule(PathPattern pattern, Access access, String firstSegment, Set<String> roles) {
+
+        boolean allowsAny(List<String> userRoles) {
+            for (String role : userRoles) {
+                if (roles.contains(role)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Candidate rules for one method and first segment, split by access level.
+     */
+    private static final class Bucket {
+
+        final CompiledRule[] publicRules;
+        final CompiledRule[] authenticatedRules;
+        final CompiledRule[] roleRules;
+
+        Bucket(List<CompiledRule> rules) {
+            this.publicRules = rules.stream().filter(r -> r.access == Access.PUBLIC).toArray(CompiledRule[]::new);
+            this.authenticatedRules = rules.stream().filter(r -> r.access == Access.AUTHENTICATED).toArray(CompiledRule[]::new);
+            this.roleRules = rules.stream().filter(r -> r.access == Access.ROLE).toArray(CompiledRule[]::new);
+        }
+    }
+
+    /**
+     * Rules for one method indexed by literal first segment; wildcard-led rules are in every bucket.
+     */
+    private static final class MethodTable {
+
+        final Map<String, Bucket> bySegment = new HashMap<>();
+        final Bucket fallback;
+
+        MethodTable(List<CompiledRule> rules) {
+            List<CompiledRule> unanchored = new ArrayList<>();
+            Map<String, List<CompiledRule>> anchored = new HashMap<>();
+            for (CompiledRule rule : rules) {
+                if (rule.firstSegment == null) {
+                    unanchored.add(rule);
+                } else {
+                    anchored.computeIfAbsent(rule.firstSegment, s -> new ArrayList<>()).add(rule);
+                }
+            }
+            anchored.forEach((segment, segmentRules) -> {
+                segmentRules.addAll(unanchored);
+                bySegment.put(segment, new Bucket(segmentRules));
+            });
+            this.fallback = new Bucket(unanchored);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hiringplatform.api_gateway.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,10 +22,27 @@ public class JwtUtil {
 
     private SecretKey secretKey;
 
+    private JwtParser jwtParser;
+
     @Value("${jwt.secret}")
     public void setSecret(String base64Secret) {
         byte[] keyBytes = Base64.getDecoder().decode(base64Secret);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+    }
+
+    /**
+     * Verifies token signature and expiration and extracts routing claims in a single parse.
+     * @param token JWT string
+     * @return Immutable verified principal
+     * @throws io.jsonwebtoken.JwtException if the token is expired, malformed, unsigned or wrongly signed
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public VerifiedPrincipal parse(String token) {
+        final Claims claims = extractAllClaims(token);
+        return new VerifiedPrincipal(claims.getSubject(), extractRoles(claims), claims.getExpiration());
     }
 
     /**
@@ -50,9 +68,17 @@ public class JwtUtil {
      * @param token JWT string
      * @return List of role strings
      */
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        final Claims claims = extractAllClaims(token);
+        return extractRoles(extractAllClaims(token));
+    }
+
+    /**
+     * Reads roles from already-parsed claims, falling back to the authorities claim.
+     * @param claims Verified claims
+     * @return List of role strings
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> extractRoles(Claims claims) {
         List<String> roles = claims.get("roles", List.class);
         if (roles == null) {
              roles = claims.get("authorities", List.class);
@@ -78,11 +104,7 @@ public class JwtUtil {
      * @return Claims object
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                   .setSigningKey(secretKey)
-                   .build()
-                   .parseClaimsJws(token)
-                   .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -0,0 +1,41 @@
+package com.hiringplatform.api_gateway.util;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Immutable view of a JWT whose signature and expiration have been verified.
+ * Holds only the claims the gateway needs for routing decisions.
+ */
+public final class VerifiedPrincipal {
+
+    private final String username;
+    private final List<String> roles;
+    private final Date expiration;
+
+    public VerifiedPrincipal(String username, List<String> roles, Date expiration) {
+        this.username = username;
+        this.roles = roles != null ? List.copyOf(roles) : List.of();
+        this.expiration = expiration != null ? new Date(expiration.getTime()) : null;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public Date getExpiration() {
+        return expiration != null ? new Date(expiration.getTime()) : null;
+    }
+
+    /**
+     * Returns expiration as epoch milliseconds without allocating a Date.
+     * @return Expiration timestamp, or Long.MAX_VALUE if the token has no exp claim
+     */
+    public long getExpirationMillis() {
+        return expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,113 @@
+package com.hiringplatform.api_gateway.benchmark;
+
+import com.hiringplatform.api_gateway.util.JwtUtil;
+import com.hiringplatform.api_gateway.util.VerifiedPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-request JWT handling cost in the gateway.
+ * Tokens mirror auth-service output: subject, roles, userId, iat and exp, signed HS256.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    /** Number of role entries in the token; 1 is typical, larger values model bulky custom claims. */
+    @Param({"1", "8", "32"})
+    public int roleCount;
+
+    private JwtUtil jwtUtil;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = "benchmark-secret-key-with-at-least-256-bits!!".getBytes();
+        key = Keys.hmacShaKeyFor(secret);
+        jwtUtil = new JwtUtil();
+        jwtUtil.setSecret(Base64.getEncoder().encodeToString(secret));
+
+        List<String> roles = new ArrayList<>();
+        roles.add("ROLE_JOB_SEEKER");
+        for (int i = 1; i < roleCount; i++) {
+            roles.add("ROLE_CUSTOM_PERMISSION_" + i);
+        }
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("roles", roles);
+        claims.put("userId", "6630f2a1c9e77b2d4c8f1a23");
+        token = Jwts.builder()
+                .setClaims(claims)
+                .setSubject("jane.doe@example.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(10)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Original filter path: a fresh parser and signature check for each of the four calls.
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void parserPerCall(Blackhole bh) {
+        bh.consume(freshParse(token));
+        bh.consume(freshParse(token).getExpiration());
+        bh.consume(freshParse(token).getSubject());
+        bh.consume(freshParse(token).get("roles", List.class));
+    }
+
+    /**
+     * Four JwtUtil calls sharing the prebuilt parser, still one signature check each.
+     */
+    @Benchmark
+    public void fourCallPath(Blackhole bh) {
+        bh.consume(jwtUtil.validateToken(token));
+        bh.consume(jwtUtil.extractUsername(token));
+        bh.consume(jwtUtil.extractRoles(token));
+        bh.consume(jwtUtil.extractExpiration(token));
+    }
+
+    /**
+     * Single-pass path used by AuthenticationFilter on a cache miss.
+     */
+    @Benchmark
+    public VerifiedPrincipal singlePass() {
+        return jwtUtil.parse(token);
+    }
+
+    private Claims freshParse(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
@@ -0,0 +1,79 @@
+package com.hiringplatform.api_gateway.benchmark;
+
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties.Access;
+import com.hiringplatform.api_gateway.filter.RouteValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request route authorization cost as the rule count grows.
+ * Compares the compiled RouteValidator with a linear AntPathMatcher scan like the original.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteValidatorBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int ruleCount;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private RouteValidator validator;
+    private List<String> antPatterns;
+    private ServerHttpRequest request;
+    private List<String> roles;
+
+    @Setup
+    public void setUp() {
+        RouteSecurityProperties properties = new RouteSecurityProperties();
+        List<RouteSecurityProperties.Rule> rules = new ArrayList<>();
+        antPatterns = new ArrayList<>();
+        for (int i = 0; i < ruleCount; i++) {
+            String path = "/service" + (i % 25) + "/resource" + i + "/**";
+            RouteSecurityProperties.Rule rule = new RouteSecurityProperties.Rule();
+            rule.setPath(path);
+            rule.setMethods(List.of(HttpMethod.POST));
+            rule.setAccess(Access.ROLE);
+            rule.setRoles(List.of("ROLE_" + (i % 5)));
+            rules.add(rule);
+            antPatterns.add(path);
+        }
+        properties.setRules(rules);
+        validator = new RouteValidator(properties);
+        int last = ruleCount - 1;
+        request = MockServerHttpRequest.post("/service" + (last % 25) + "/resource" + last + "/items/7").build();
+        roles = List.of("ROLE_" + (last % 5));
+    }
+
+    @Benchmark
+    public boolean compiledTable() {
+        return validator.isPublic(request) || validator.isAuthorized(request, roles);
+    }
+
+    @Benchmark
+    public boolean linearAntScan() {
+        String path = request.getURI().getPath();
+        return antPatterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+}
@@ -0,0 +1,110 @@
+package com.hiringplatform.api_gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies which responses the gateway stores and for how long.
+ */
+class ResponseCacheTest {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+
+    private static final Duration MAX_TTL = Duration.ofSeconds(300);
+
+    @Test
+    void cacheControlDecidesTtl() {
+        assertEquals(DEFAULT_TTL, ttl(null));
+        assertEquals(Duration.ofSeconds(60), ttl("public, max-age=60"));
+        assertEquals(Duration.ofSeconds(5), ttl("max-age=60, s-maxage=5"));
+        assertEquals(MAX_TTL, ttl("max-age=86400"));
+        assertEquals(Duration.ZERO, ttl("max-age=0"));
+        assertEquals(Duration.ZERO, ttl("no-store"));
+        assertEquals(Duration.ZERO, ttl("private, max-age=60"));
+        assertEquals(Duration.ZERO, ttl("No-Cache"));
+    }
+
+    @Test
+    void jobServiceListingHeaderIsSharedForItsSharedMaxAge() {
+        assertEquals(Duration.ofSeconds(2), ttl("max-age=0, public, s-maxage=2"));
+    }
+
+    @Test
+    void setCookiePreventsStoring() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.SET_COOKIE, "session=1");
+        assertEquals(Duration.ZERO, ResponseCache.ttlFor(headers, DEFAULT_TTL, MAX_TTL));
+    }
+
+    @Test
+    void requestBypassDirectives() {
+        HttpHeaders headers = new HttpHeaders();
+        assertFalse(ResponseCache.bypassRequested(headers));
+        headers.setCacheControl("max-age=60, x-no-cache-hint");
+        assertFalse(ResponseCache.bypassRequested(headers));
+        assertFalse(ResponseCache.storeForbidden(headers));
+        headers.setCacheControl("max-age=60, No-Cache");
+        assertTrue(ResponseCache.bypassRequested(headers));
+        assertFalse(ResponseCache.storeForbidden(headers));
+        headers.setCacheControl(" no-store ");
+        assertTrue(ResponseCache.bypassRequested(headers));
+        assertTrue(ResponseCache.storeForbidden(headers));
+    }
+
+    @Test
+    void storesBodyOffHeapWithoutLengthHeaders() {
+        ResponseCache cache = new ResponseCache(1 << 20, 16, 10, 300, new SimpleMeterRegistry());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(5);
+        headers.setETag("\"abc-1\"");
+        headers.setAccessControlAllowOrigin("http://localhost:3000");
+        ResponseCache.CachedResponse stored = cache.put("/posts/abc", 200, headers, bytes("hello"));
+
+        ResponseCache.CachedResponse found = cache.get("/posts/abc");
+        assertEquals(stored, found);
+        assertTrue(found.body().isDirect());
+        assertTrue(found.body().isReadOnly());
+        assertFalse(found.headers().containsKey(HttpHeaders.CONTENT_LENGTH));
+        assertFalse(found.headers().containsKey(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals("\"abc-1\"", found.headers().getETag());
+        ByteBuffer body = found.body().duplicate();
+        byte[] read = new byte[body.remaining()];
+        body.get(read);
+        assertEquals("hello", new String(read, StandardCharsets.UTF_8));
+        assertNull(cache.get("/posts/abc?page=2"));
+    }
+
+    @Test
+    void rejectsOversizedAndUncacheableBodies() {
+        ResponseCache cache = new ResponseCache(1 << 20, 16, 10, 300, new SimpleMeterRegistry());
+        assertNull(cache.put("/posts/all", 200, new HttpHeaders(), ByteBuffer.allocateDirect(17)));
+        HttpHeaders noStore = new HttpHeaders();
+        noStore.setCacheControl("no-store");
+        assertNull(cache.put("/posts/1", 200, noStore, bytes("x")));
+        assertNull(cache.get("/posts/all"));
+        assertNull(cache.get("/posts/1"));
+    }
+
+    private static Duration ttl(String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        if (cacheControl != null) {
+            headers.setCacheControl(cacheControl);
+        }
+        return ResponseCache.ttlFor(headers, DEFAULT_TTL, MAX_TTL);
+    }
+
+    private static ByteBuffer bytes(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+}
@@ -0,0 +1,78 @@
+package com.hiringplatform.api_gateway.filter;
+
+import com.hiringplatform.api_gateway.cache.VerifiedTokenCache;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties.Access;
+import com.hiringplatform.api_gateway.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that every kind of unusable bearer token is answered with 401 and never reaches the route.
+ */
+class AuthenticationFilterTest {
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RouteSecurityProperties properties = new RouteSecurityProperties();
+        RouteSecurityProperties.Rule rule = new RouteSecurityProperties.Rule();
+        rule.setPath("/posts/add");
+        rule.setMethods(List.of(HttpMethod.POST));
+        rule.setAccess(Access.ROLE);
+        rule.setRoles(List.of("RECRUITER"));
+        properties.setRules(List.of(rule));
+        JwtUtil jwtUtil = new JwtUtil();
+        jwtUtil.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        AuthenticationFilter factory = new AuthenticationFilter();
+        ReflectionTestUtils.setField(factory, "validator", new RouteValidator(properties));
+        ReflectionTestUtils.setField(factory, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(factory, "verifiedTokenCache", new VerifiedTokenCache(100, new SimpleMeterRegistry()));
+        filter = factory.apply(new AuthenticationFilter.Config());
+    }
+
+    @Test
+    void emptyBearerTokenIsUnauthorized() {
+        assertEquals(HttpStatus.UNAUTHORIZED, statusFor("Bearer "));
+    }
+
+    @Test
+    void unsignedTokenIsUnauthorized() {
+        assertEquals(HttpStatus.UNAUTHORIZED, statusFor("Bearer " + Jwts.builder().setSubject("recruiter").compact()));
+    }
+
+    @Test
+    void malformedTokenIsUnauthorized() {
+        assertEquals(HttpStatus.UNAUTHORIZED, statusFor("Bearer not-a-jwt"));
+    }
+
+    private HttpStatus statusFor(String authorization) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/posts/add").header(HttpHeaders.AUTHORIZATION, authorization));
+        filter.filter(exchange, e -> {
+            forwarded.incrementAndGet();
+            return Mono.empty();
+        }).block();
+        assertEquals(0, forwarded.get());
+        return HttpStatus.resolve(exchange.getResponse().getStatusCode().value());
+    }
+}
@@ -0,0 +1,239 @@
+package com.hiringplatform.api_gateway.filter;
+
+import com.hiringplatform.api_gateway.cache.ResponseCache;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties.Access;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs the response cache filter against a stub upstream chain and checks hits, miss collapsing and revalidation.
+ */
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "[{\"id\":\"p1\",\"role\":\"Java Developer\"}]";
+
+    private static final String ETAG = "\"p1-3\"";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RouteSecurityProperties properties = new RouteSecurityProperties();
+        properties.setRules(List.of(
+                rule("/posts/search/**"),
+                rule("/posts/{id}")
+        ));
+        filter = new ResponseCacheFilter();
+        ReflectionTestUtils.setField(filter, "validator", new RouteValidator(properties));
+        ReflectionTestUtils.setField(filter, "responseCache",
+                new ResponseCache(1 << 20, 1 << 16, 10, 300, meterRegistry));
+        ReflectionTestUtils.setField(filter, "enabled", true);
+    }
+
+    @Test
+    void secondRequestIsServedFromTheCache() {
+        GatewayFilterChain chain = upstream(BODY, null, Mono.empty());
+        MockServerWebExchange first = get("/posts/p1");
+        filter.filter(first, chain).block();
+        MockServerWebExchange second = get("/posts/p1");
+        filter.filter(second, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", cacheHeader(first));
+        assertEquals("HIT", cacheHeader(second));
+        assertEquals(BODY, body(second));
+        assertEquals(ETAG, second.getResponse().getHeaders().getETag());
+        assertNotNull(second.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+    }
+
+    @Test
+    void concurrentMissesShareOneUpstreamRequest() throws Exception {
+        Sinks.Empty<Void> gate = Sinks.empty();
+        GatewayFilterChain chain = upstream(BODY, null, gate.asMono());
+        MockServerWebExchange leader = get("/posts/search/java?limit=5");
+        MockServerWebExchange follower = get("/posts/search/java?limit=5");
+
+        CompletableFuture<Void> leading = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> following = filter.filter(follower, chain).toFuture();
+        assertFalse(following.isDone());
+        gate.tryEmitEmpty();
+        leading.get(5, TimeUnit.SECONDS);
+        following.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(BODY, body(leader));
+        assertEquals(BODY, body(follower));
+        assertEquals("HIT", cacheHeader(follower));
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+    }
+
+    @Test
+    void followerGoesUpstreamWhenTheLeadersResponseIsNotStored() throws Exception {
+        Sinks.Empty<Void> gate = Sinks.empty();
+        GatewayFilterChain chain = upstream(BODY, "no-store", gate.asMono());
+        MockServerWebExchange leader = get("/posts/p1");
+        MockServerWebExchange follower = get("/posts/p1");
+
+        CompletableFuture<Void> leading = filter.filter(leader, chain).toFuture();
+        CompletableFuture<Void> following = filter.filter(follower, chain).toFuture();
+        assertEquals(1, upstreamCalls.get());
+        gate.tryEmitEmpty();
+        leading.get(5, TimeUnit.SECONDS);
+        following.get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(BODY, body(follower));
+        assertEquals("MISS", cacheHeader(follower));
+        assertEquals(0, requests("hit"));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    void matchingIfNoneMatchGets304FromTheCache() {
+        GatewayFilterChain chain = upstream(BODY, null, Mono.empty());
+        filter.filter(get("/posts/p1"), chain).block();
+        MockServerWebExchange revalidation = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/posts/p1").ifNoneMatch(ETAG));
+        filter.filter(revalidation, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals(ETAG, revalidation.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void requestNoCacheGoesUpstreamAndRefreshesTheEntry() {
+        filter.filter(get("/posts/p1"), upstream("old", null, Mono.empty())).block();
+        MockServerWebExchange reload = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/posts/p1").header(HttpHeaders.CACHE_CONTROL, "max-age=0, no-cache"));
+        GatewayFilterChain chain = upstream(BODY, null, Mono.empty());
+        filter.filter(reload, chain).block();
+        MockServerWebExchange next = get("/posts/p1");
+        filter.filter(next, chain).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("MISS", cacheHeader(reload));
+        assertEquals(BODY, body(next));
+        assertEquals("HIT", cacheHeader(next));
+    }
+
+    @Test
+    void requestNoStoreKeepsTheResponseOutOfTheCache() {
+        GatewayFilterChain chain = upstream(BODY, null, Mono.empty());
+        filter.filter(MockServerWebExchange.from(
+                MockServerHttpRequest.get("/posts/p1").header(HttpHeaders.CACHE_CONTROL, "no-store")), chain).block();
+        MockServerWebExchange next = get("/posts/p1");
+        filter.filter(next, chain).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("MISS", cacheHeader(next));
+    }
+
+    @Test
+    void bodyWithoutContentLengthIsCapturedAcrossGrowth() {
+        String large = "x".repeat(20_000);
+        GatewayFilterChain chain = upstream(large, null, Mono.empty(), false);
+        filter.filter(get("/posts/p1"), chain).block();
+        MockServerWebExchange next = get("/posts/p1");
+        filter.filter(next, chain).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(large, body(next));
+    }
+
+    @Test
+    void bodyOverTheEntryLimitIsNotStored() {
+        GatewayFilterChain chain = upstream("x".repeat((1 << 16) + 1), null, Mono.empty(), false);
+        filter.filter(get("/posts/p1"), chain).block();
+        filter.filter(get("/posts/p1"), chain).block();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private GatewayFilterChain upstream(String body, String cacheControl, Mono<Void> gate) {
+        return upstream(body, cacheControl, gate, true);
+    }
+
+    /**
+     * Stub upstream that answers 200 with the body in two chunks once the gate completes.
+     */
+    private GatewayFilterChain upstream(String body, String cacheControl, Mono<Void> gate, boolean contentLength) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            return gate.then(Mono.defer(() -> {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                response.setStatusCode(HttpStatus.OK);
+                response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                response.getHeaders().setETag(ETAG);
+                if (cacheControl != null) {
+                    response.getHeaders().setCacheControl(cacheControl);
+                }
+                if (contentLength) {
+                    response.getHeaders().setContentLength(bytes.length);
+                }
+                int half = bytes.length / 2;
+                Flux<DataBuffer> chunks = Flux.just(
+                        response.bufferFactory().wrap(Arrays.copyOfRange(bytes, 0, half)),
+                        response.bufferFactory().wrap(Arrays.copyOfRange(bytes, half, bytes.length)));
+                return response.writeWith(chunks);
+            }));
+        };
+    }
+
+    private long requests(String result) {
+        return (long) meterRegistry.get("gateway.response.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    private static MockServerWebExchange get(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+    }
+
+    private static String cacheHeader(MockServerWebExchange exchange) {
+        return exchange.getResponse().getHeaders().getFirst("X-Cache");
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(5));
+    }
+
+    private static RouteSecurityProperties.Rule rule(String path) {
+        RouteSecurityProperties.Rule rule = new RouteSecurityProperties.Rule();
+        rule.setPath(path);
+        rule.setMethods(List.of(HttpMethod.GET));
+        rule.setAccess(Access.PUBLIC);
+        return rule;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hiringplatform.api_gateway.filter;
+
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties;
+import com.hiringplatform.api_gateway.config.RouteSecurityProperties.Access;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies compiled route rules keep the gateway's access decisions.
+ */
+class RouteValidatorTest {
+
+    private RouteValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        RouteSecurityProperties properties = new RouteSecurityProperties();
+        properties.setRules(List.of(
+                rule("/register", List.of(), Access.PUBLIC),
+                rule("/posts/search/**", List.of(HttpMethod.GET), Access.PUBLIC),
+                rule("/posts/{id}", List.of(HttpMethod.GET), Access.PUBLIC),
+                rule("/posts/add", List.of(HttpMethod.POST), Access.ROLE, "RECRUITER"),
+                rule("/posts/apply/**", List.of(HttpMethod.POST), Access.ROLE, "JOB_SEEKER"),
+                rule("/candidate/profile/**", List.of(HttpMethod.GET), Access.AUTHENTICATED),
+                rule("/{any}/health", List.of(HttpMethod.GET), Access.PUBLIC)
+        ));
+        validator = new RouteValidator(properties);
+    }
+
+    @Test
+    void publicRulesRespectMethod() {
+        assertTrue(validator.isPublic(MockServerHttpRequest.post("/register").build()));
+        assertTrue(validator.isPublic(MockServerHttpRequest.get("/posts/search/java").build()));
+        assertTrue(validator.isPublic(MockServerHttpRequest.get("/posts/123").build()));
+        assertTrue(validator.isPublic(MockServerHttpRequest.options("/posts/add").build()));
+        assertTrue(validator.isPublic(MockServerHttpRequest.get("/jobs/health").build()));
+        assertFalse(validator.isPublic(MockServerHttpRequest.post("/posts/123").build()));
+        assertFalse(validator.isPublic(MockServerHttpRequest.get("/candidate/profile/1").build()));
+    }
+
+    @Test
+    void roleRulesAcceptPrefixedAndPlainRoles() {
+        assertTrue(validator.isAuthorized(MockServerHttpRequest.post("/posts/add").build(), List.of("ROLE_RECRUITER")));
+        assertTrue(validator.isAuthorized(MockServerHttpRequest.post("/posts/add").build(), List.of("RECRUITER")));
+        assertFalse(validator.isAuthorized(MockServerHttpRequest.post("/posts/add").build(), List.of("ROLE_JOB_SEEKER")));
+        assertTrue(validator.isAuthorized(MockServerHttpRequest.post("/posts/apply/42").build(), List.of("ROLE_JOB_SEEKER")));
+    }
+
+    @Test
+    void authenticatedRulesAcceptAnyRole() {
+        assertTrue(validator.isAuthorized(MockServerHttpRequest.get("/candidate/profile/1").build(), List.of("ROLE_RECRUITER")));
+        assertFalse(validator.isAuthorized(MockServerHttpRequest.get("/candidate/profile/1").build(), List.of()));
+        assertFalse(validator.isAuthorized(MockServerHttpRequest.delete("/candidate/profile/1").build(), List.of("ROLE_RECRUITER")));
+    }
+
+    private static RouteSecurityProperties.Rule rule(String path, List<HttpMethod> methods, Access access, String... roles) {
+        RouteSecurityProperties.Rule rule = new RouteSecurityProperties.Rule();
+        rule.setPath(path);
+        rule.setMethods(methods);
+        rule.setAccess(access);
+        rule.setRoles(List.of(roles));
+        return rule;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hiringplatform.auth_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors used by Auth Service besides the password hashing pool.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Virtual-thread executor for blocking work (Mongo, token signing) that follows a hash,
+     * so the bounded hashing pool only ever runs BCrypt.
+     * @return Executor starting one virtual thread per task
+     */
+    @Bean(name = "persistenceExecutor", destroyMethod = "close")
+    public ExecutorService persistenceExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
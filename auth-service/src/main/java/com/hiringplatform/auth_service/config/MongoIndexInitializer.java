@@ -0,0 +1,122 @@
+package com.hiringplatform.auth_service.config;
+
+import com.hiringplatform.auth_service.model.User;
+import com.mongodb.client.FindIterable;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ensures the 'users' indexes and health-checks the hot query plans;
+ * a copy of job-service's MongoIndexInitializer with this service's collection.
+ */
+@Component("mongoIndexHealthIndicator")
+public class MongoIndexInitializer implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private static final List<Class<?>> ENTITIES = List.of(User.class);
+
+    private static final List<HotQuery> HOT_QUERIES = List.of(
+            new HotQuery("users by username", User.class, new Document("username", ""), null));
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    private volatile List<String> collectionScans = List.of();
+
+    private volatile String error;
+
+    /**
+     * Hot query whose plan must use an index.
+     * @param name Description used in logs and health details
+     * @param entity Entity whose collection is queried
+     * @param filter Query filter with representative values
+     * @param sort Sort order, or null
+     */
+    private record HotQuery(String name, Class<?> entity, Document filter, Document sort) {
+    }
+
+    /**
+     * Ensures declared indexes and verifies hot query plans.
+     * Failures are logged and reported as unhealthy rather than stopping startup.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+            for (Class<?> entity : ENTITIES) {
+                IndexOperations indexOps = mongoTemplate.indexOps(entity);
+                resolver.resolveIndexFor(entity).forEach(indexOps::ensureIndex);
+            }
+            List<String> scans = new ArrayList<>();
+            for (HotQuery query : HOT_QUERIES) {
+                if (scansCollection(query)) {
+                    log.error("Hot query '{}' would scan the whole collection", query.name());
+                    scans.add(query.name());
+                }
+            }
+            collectionScans = List.copyOf(scans);
+            log.info("MongoDB indexes ensured; {} of {} hot queries use an index",
+                    HOT_QUERIES.size() - scans.size(), HOT_QUERIES.size());
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            log.error("Could not ensure MongoDB indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reports DOWN with the error or the hot queries that would scan a collection, otherwise UP.
+     * @return Index health
+     */
+    @Override
+    public Health health() {
+        if (error != null) {
+            return Health.down().withDetail("error", error).build();
+        }
+        if (!collectionScans.isEmpty()) {
+            return Health.down().withDetail("collectionScans", collectionScans).build();
+        }
+        return Health.up().build();
+    }
+
+    private boolean scansCollection(HotQuery query) {
+        FindIterable<Document> find = mongoTemplate.getCollection(mongoTemplate.getCollectionName(query.entity()))
+                .find(query.filter());
+        if (query.sort() != null) {
+            find = find.sort(query.sort());
+        }
+        Document plan = find.explain().get("queryPlanner", Document.class);
+        return plan != null && containsCollectionScan(plan.get("winningPlan"));
+    }
+
+    /**
+     * Searches a plan tree for a COLLSCAN stage, wherever the server version nests it.
+     */
+    private static boolean containsCollectionScan(Object node) {
+        if (node instanceof Document stage) {
+            return "COLLSCAN".equals(stage.get("stage"))
+                    || stage.values().stream().anyMatch(MongoIndexInitializer::containsCollectionScan);
+        }
+        if (node instanceof List<?> stages) {
+            return stages.stream().anyMatch(MongoIndexInitializer::containsCollectionScan);
+        }
+        return false;
+    }
+}
@@ -1,10 +1,13 @@
 package com.hiringplatform.auth_service.config;
 
 import com.hiringplatform.auth_service.filter.JwtRequestFilter;
+import com.hiringplatform.auth_service.model.User;
 import com.hiringplatform.auth_service.repository.UserRepository;
+import com.hiringplatform.auth_service.util.BCryptStrengthCalibrator;
 
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,6 +19,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -38,26 +42,42 @@ public class SecurityConfig {
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${auth.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${auth.bcrypt.target-hash-millis:0}")
+    private long bcryptTargetHashMillis;
+
     /**
      * Loads user details from database for authentication.
      */
     @Bean
     public UserDetailsService userDetailsService() {
         return username -> userRepository.findByUsername(username)
-            .map(user -> new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
-            ))
+            .map(SecurityConfig::userDetailsOf)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
 
+    /**
+     * Converts a stored user to Spring Security user details with its role as the only authority.
+     * @param user Stored user
+     * @return User details
+     */
+    public static UserDetails userDetailsOf(User user) {
+        return new org.springframework.security.core.userdetails.User(
+            user.getUsername(),
+            user.getPassword(),
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()))
+        );
+    }
+
     /**
      * Password encoder using BCrypt hashing algorithm.
+     * Strength is configured, or calibrated at startup when a target hash time is set.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(BCryptStrengthCalibrator.resolve(bcryptStrength, bcryptTargetHashMillis));
     }
 
     /**
@@ -91,6 +111,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/register", "/login").permitAll()
                 .requestMatchers(HttpMethod.GET, "/users/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
@@ -1,21 +1,30 @@
 package com.hiringplatform.auth_service.controller;
 
+import com.hiringplatform.auth_service.config.SecurityConfig;
 import com.hiringplatform.auth_service.dto.AuthRequest;
 import com.hiringplatform.auth_service.dto.UserDTO;
 import com.hiringplatform.auth_service.model.User;
 import com.hiringplatform.auth_service.repository.UserRepository;
+import com.hiringplatform.auth_service.service.PasswordHashingService;
+import com.hiringplatform.auth_service.service.TokenRevocationService;
 import com.hiringplatform.auth_service.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * REST controller for user authentication and registration endpoints.
@@ -24,58 +33,123 @@ import java.util.Optional;
 @RestController
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private JwtUtil jwtUtil;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    @Qualifier("persistenceExecutor")
+    private ExecutorService persistenceExecutor;
 
     /**
      * Registers a new user with encoded password.
+     * Hashing runs on the bounded hashing pool and the save on the persistence executor;
+     * the request thread is released meanwhile. A concurrent registration of the same username
+     * is caught by the unique username index.
      * @param user User object with username, password, email, and role
-     * @return Success message or error if username already exists
+     * @return Success message, error if username already exists, or 503 if hashing is saturated
      */
     @PostMapping("/register")
-    public ResponseEntity<String> registerUser(@RequestBody User user) {
+    public CompletableFuture<ResponseEntity<String>> registerUser(@RequestBody User user) {
         if (userRepository.findByUsername(user.getUsername()).isPresent()) {
-            return ResponseEntity.badRequest().body("Error: Username is already taken!");
+            return CompletableFuture.completedFuture(usernameTaken());
         }
          if (user.getEmail() == null || user.getEmail().isEmpty()) {
-             return ResponseEntity.badRequest().body("Error: Email is required!");
+             return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Error: Email is required!"));
          }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
-        return ResponseEntity.ok("User registered successfully!");
+        try {
+            return passwordHashingService.encode(user.getPassword()).thenApplyAsync(encodedPassword -> {
+                user.setPassword(encodedPassword);
+                try {
+                    userRepository.save(user);
+                } catch (DuplicateKeyException e) {
+                    return usernameTaken();
+                }
+                return ResponseEntity.ok("User registered successfully!");
+            }, persistenceExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(hashingBusy());
+        }
     }
 
     /**
      * Authenticates user credentials and generates JWT token.
+     * The user lookup, any upgraded-hash write and token signing run on the persistence executor;
+     * only the BCrypt check (and a rehash when the stored hash is below the configured strength) runs on the hashing pool.
+     * An upgraded hash is written with a targeted update of the password field, so concurrent changes
+     * to the rest of the user document, such as a token revocation, are kept.
      * @param authRequest Login credentials with username and password
-     * @return JWT token string on success or error message on failure
+     * @return JWT token string on success, 401 for rejected credentials, or 503 if hashing is saturated
      */
     @PostMapping("/login")
-    public ResponseEntity<String> loginUser(@RequestBody AuthRequest authRequest) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
-            );
-            final UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            Optional<com.hiringplatform.auth_service.model.User> userOptional = userRepository.findByUsername(userDetails.getUsername());
-            if (!userOptional.isPresent()) {
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Authenticated user record not found");
-            }
-            String userId = userOptional.get().getId();
-            final String jwt = jwtUtil.generateToken(userDetails, userId);
-            return ResponseEntity.ok(jwt);
-        } catch (Exception e) {
-             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
+    public CompletableFuture<ResponseEntity<String>> loginUser(@RequestBody AuthRequest authRequest) {
+        return CompletableFuture.supplyAsync(() -> userRepository.findByUsername(authRequest.getUsername()), persistenceExecutor)
+                .thenCompose(user -> passwordHashingService
+                        .verify(authRequest.getPassword(), user.map(User::getPassword).orElse(null))
+                        .thenApplyAsync(verification -> completeLogin(user, verification), persistenceExecutor))
+                .exceptionally(this::loginFailed);
+    }
+
+    /**
+     * Persists an upgraded hash if there is one and generates the JWT token for a verified user.
+     * @param userOptional User looked up by the login username
+     * @param verification Outcome of the password check
+     * @return JWT token string, or 401 if the user is unknown or the password is wrong
+     */
+    private ResponseEntity<String> completeLogin(Optional<User> userOptional, PasswordHashingService.Verification verification) {
+        if (userOptional.isEmpty() || !verification.matched()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
         }
+        User user = userOptional.get();
+        if (verification.upgradedHash() != null
+                && userRepository.replacePassword(user.getUsername(), user.getPassword(), verification.upgradedHash()) == 0) {
+            log.debug("Password of {} changed during login; upgraded hash discarded", user.getUsername());
+        }
+        UserDetails userDetails = SecurityConfig.userDetailsOf(user);
+        final String jwt = jwtUtil.generateToken(userDetails, user.getId(), tokenRevocationService.issueTimeFor(user));
+        return ResponseEntity.ok(jwt);
+    }
+
+    /**
+     * Maps a login rejected by a full hashing queue to 503, and rethrows anything else.
+     * @param failure Failure of the login pipeline
+     * @return 503 response
+     */
+    private ResponseEntity<String> loginFailed(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof RejectedExecutionException) {
+            return hashingBusy();
+        }
+        log.error("Login failed: {}", cause.getMessage());
+        throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+    }
+
+    /**
+     * Builds response returned when the username is already registered.
+     * @return 400 response
+     */
+    private ResponseEntity<String> usernameTaken() {
+        return ResponseEntity.badRequest().body("Error: Username is already taken!");
+    }
+
+    /**
+     * Builds response returned when the hashing queue is full.
+     * @return 503 response with Retry-After header
+     */
+    private ResponseEntity<String> hashingBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Server is busy, please retry shortly");
     }
 
     /**
@@ -94,4 +168,17 @@ public class AuthController {
              return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
          }
     }
+
+    /**
+     * Revokes all tokens issued to the authenticated user (forced logout on every device).
+     * @param authentication Current authenticated principal
+     * @return Success message or 404 if the user no longer exists
+     */
+    @PostMapping("/tokens/revoke")
+    public ResponseEntity<String> revokeTokens(Authentication authentication) {
+        if (!tokenRevocationService.revokeAll(authentication.getName())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
+        }
+        return ResponseEntity.ok("All active sessions have been revoked.");
+    }
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.hiringplatform.auth_service.filter;
 
+import com.hiringplatform.auth_service.service.TokenRevocationService;
 import com.hiringplatform.auth_service.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,10 +20,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 /**
  * Servlet filter intercepting requests to validate JWT tokens.
  * Extracts and validates JWT from Authorization header, sets authentication context.
+ * In stateless mode the principal is built from verified claims without a user lookup.
  */
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -29,6 +36,12 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Value("${jwt.stateless-auth:false}")
+    private boolean statelessAuth;
+
     /**
      * Processes incoming HTTP requests to validate JWT and authenticate user.
      * @param request Incoming HTTP request
@@ -43,23 +56,52 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         final String authorizationHeader = request.getHeader("Authorization");
         String username = null;
         String jwt = null;
+        Claims claims = null;
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                claims = jwtUtil.extractAllClaims(jwt);
+                username = claims.getSubject();
             } catch (Exception e) {
             }
         }
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            if (statelessAuth) {
+                if (!tokenRevocationService.isRevoked(username, claims.getIssuedAt())) {
+                    authenticate(request, userDetailsFromClaims(username, claims));
+                }
+            } else {
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                if (jwtUtil.validateToken(jwt, userDetails)) {
+                    authenticate(request, userDetails);
+                }
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Builds user details from verified token claims; claims were signature- and expiry-checked on parse.
+     * @param username Token subject
+     * @param claims Verified token claims
+     * @return UserDetails carrying the token's role authorities
+     */
+    private UserDetails userDetailsFromClaims(String username, Claims claims) {
+        return new User(username, "", jwtUtil.extractRoles(claims).stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Places an authenticated token for the user in the security context.
+     * @param request Incoming HTTP request
+     * @param userDetails Authenticated user details
+     */
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+        usernamePasswordAuthenticationToken
+                .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+    }
 }
@@ -1,8 +1,11 @@
 package com.hiringplatform.auth_service.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.Date;
+
 /**
  * User entity representing user accounts in the system.
  * Stored in MongoDB 'users' collection with authentication and role information.
@@ -13,6 +16,7 @@ public class User {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     private String username;
 
     private String password;
@@ -21,6 +25,8 @@ public class User {
 
     private String email;
 
+    private Date tokensRevokedAt;
+
     public String getId() {
         return id;
     }
@@ -60,4 +66,12 @@ public class User {
     public void setEmail(String email) {
         this.email = email;
     }
+
+    public Date getTokensRevokedAt() {
+        return tokensRevokedAt;
+    }
+
+    public void setTokensRevokedAt(Date tokensRevokedAt) {
+        this.tokensRevokedAt = tokensRevokedAt;
+    }
 }
@@ -2,6 +2,8 @@ package com.hiringplatform.auth_service.repository;
 
 import com.hiringplatform.auth_service.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -20,4 +22,16 @@ public interface UserRepository extends MongoRepository<User, String> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Replaces a user's password hash only if it is still the one that was verified,
+     * leaving the rest of the document untouched.
+     * @param username Username of the user
+     * @param currentHash Hash the password was verified against
+     * @param newHash Replacement hash
+     * @return Number of users updated, 0 if the password changed in the meantime
+     */
+    @Query("{ 'username' : ?0, 'password' : ?1 }")
+    @Update("{ '$set' : { 'password' : ?2 } }")
+    long replacePassword(String username, String currentHash, String newHash);
+
 }
@@ -0,0 +1,124 @@
+package com.hiringplatform.auth_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated bounded pool off the request threads.
+ * A full queue rejects new work immediately so callers can shed load instead of piling up.
+ * Queue depth, active threads and task latency are published as 'auth.password.hashing' executor metrics.
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.hashing.threads:4}")
+    private int threads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor pool;
+
+    private String unknownUserHash;
+
+    private ExecutorService executor;
+
+    /**
+     * Outcome of checking a password against a stored hash.
+     * @param matched True if the password matches
+     * @param upgradedHash New hash at the configured strength when the stored one is weaker, otherwise null
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+
+    /**
+     * Creates the bounded hashing pool and registers its metrics.
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "auth.password.hashing");
+        unknownUserHash = passwordEncoder.encode("unknown-user");
+    }
+
+    /**
+     * Stops accepting work and lets queued hashes finish.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     * @param rawPassword Password to hash
+     * @return Future completing with the encoded password
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a password against a stored hash on the hashing pool, rehashing it when the stored hash is weaker
+     * than the configured strength. A missing hash is checked against a dummy hash so unknown usernames take
+     * as long as wrong passwords.
+     * @param rawPassword Password given at login
+     * @param encodedPassword Stored hash, or null if the user does not exist
+     * @return Future completing with the verification outcome
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public CompletableFuture<Verification> verify(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (encodedPassword == null) {
+                passwordEncoder.matches(rawPassword, unknownUserHash);
+                return new Verification(false, null);
+            }
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    /**
+     * Runs a password-verifying task, such as an authentication attempt, on the hashing pool.
+     * @param task Task performing BCrypt work
+     * @param <T> Task result type
+     * @return Future completing with the task result
+     * @throws RejectedExecutionException if the hashing queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+}
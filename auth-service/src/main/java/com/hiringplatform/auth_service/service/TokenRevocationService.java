@@ -0,0 +1,121 @@
+package com.hiringplatform.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.hiringplatform.auth_service.model.User;
+import com.hiringplatform.auth_service.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Tracks forced logouts so stateless token validation can still reject revoked tokens.
+ * Revocation timestamps are cached per username with a short TTL to bound database reads.
+ * Token iat claims only have second precision, so a revocation is recorded at the next whole second:
+ * every token issued before it has an earlier iat, and tokens issued afterwards are dated no earlier than it.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final long NOT_REVOKED = 0L;
+
+    private static final long UNKNOWN_USER = Long.MAX_VALUE;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.revocation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jwt.revocation.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    @Value("${jwt.revocation.cache-max-size:10000}")
+    private long cacheMaxSize;
+
+    private LoadingCache<String, Long> revokedAtByUsername;
+
+    /**
+     * Builds the revocation cache once configuration is injected.
+     */
+    @PostConstruct
+    public void init() {
+        revokedAtByUsername = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build(this::loadRevokedAt);
+    }
+
+    /**
+     * Checks whether a token issued at the given time has been revoked for the user.
+     * Tokens of users that no longer exist are treated as revoked.
+     * @param username Token subject
+     * @param issuedAt Token iat claim (second precision)
+     * @return True if the token must be rejected
+     */
+    public boolean isRevoked(String username, Date issuedAt) {
+        if (!enabled) {
+            return false;
+        }
+        long revokedAt = revokedAtByUsername.get(username);
+        if (revokedAt == NOT_REVOKED) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() < revokedAt;
+    }
+
+    /**
+     * Returns the issue time for a new token, never earlier than the user's last revocation,
+     * so a token issued in the same second as a revocation is not rejected by it.
+     * @param user User the token is issued to
+     * @return Issue time for the token's iat claim
+     */
+    public Date issueTimeFor(User user) {
+        Date now = new Date();
+        Date revokedAt = user.getTokensRevokedAt();
+        if (revokedAt == null) {
+            return now;
+        }
+        return new Date(Math.max(now.getTime(), ceilToSecond(revokedAt.getTime())));
+    }
+
+    /**
+     * Revokes every token issued to the user up to now, recording the revocation at the next whole second.
+     * Other instances observe the revocation once their cached entry expires.
+     * @param username Username whose tokens should be revoked
+     * @return True if the user exists
+     */
+    public boolean revokeAll(String username) {
+        Optional<User> userOptional = userRepository.findByUsername(username);
+        if (userOptional.isEmpty()) {
+            return false;
+        }
+        User user = userOptional.get();
+        user.setTokensRevokedAt(new Date(ceilToSecond(System.currentTimeMillis())));
+        userRepository.save(user);
+        revokedAtByUsername.invalidate(username);
+        return true;
+    }
+
+    /**
+     * Loads revocation time for a user, rounded up to the second to match iat precision.
+     * @param username Username to load
+     * @return Revocation epoch millis, NOT_REVOKED, or UNKNOWN_USER
+     */
+    private Long loadRevokedAt(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> user.getTokensRevokedAt() == null
+                        ? NOT_REVOKED
+                        : ceilToSecond(user.getTokensRevokedAt().getTime()))
+                .orElse(UNKNOWN_USER);
+    }
+
+    private static long ceilToSecond(long epochMillis) {
+        return Math.ceilDiv(epochMillis, 1000L) * 1000L;
+    }
+}
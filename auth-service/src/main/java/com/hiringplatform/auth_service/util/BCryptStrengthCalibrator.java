@@ -0,0 +1,46 @@
+package com.hiringplatform.auth_service.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks a BCrypt work factor from measured hashing latency on the current host.
+ * Each cost step doubles hashing time, so calibration stops at the first step over target.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+
+    private static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Returns the highest strength whose single hash fits the target, never below the minimum.
+     * @param minStrength Configured baseline strength
+     * @param targetMillis Target hashing time per password; 0 or less disables calibration
+     * @return BCrypt strength to use
+     */
+    public static int resolve(int minStrength, long targetMillis) {
+        if (targetMillis <= 0) {
+            return minStrength;
+        }
+        int strength = minStrength;
+        while (strength < MAX_STRENGTH && measureMillis(strength + 1) <= targetMillis) {
+            strength++;
+        }
+        log.info("BCrypt strength calibrated to {} for target {} ms", strength, targetMillis);
+        return strength;
+    }
+
+    private static long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hiringplatform.auth_service.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,18 +26,23 @@ import java.util.stream.Collectors;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretString;
-
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 10;
 
+    private SecretKey signingKey;
+
+    private JwtParser jwtParser;
+
     /**
-     * Generates signing key from base64-encoded secret.
-     * @return SecretKey for token signing and verification
+     * Derives signing key and verifying parser once from the base64-encoded secret.
+     * @param secretString Base64-encoded HMAC secret
      */
-    private SecretKey getSigningKey() {
+    @Value("${jwt.secret}")
+    public void setSecret(String secretString) {
         byte[] keyBytes = Decoders.BASE64.decode(secretString);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -56,6 +63,17 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Extracts role authorities (ROLE_ prefixed) from JWT token claims.
+     * @param claims Verified token claims
+     * @return List of role strings, empty if claim is absent
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> extractRoles(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        return roles != null ? roles : List.of();
+    }
+
     /**
      * Extracts specific claim from token using resolver function.
      * @param token JWT string
@@ -70,39 +88,41 @@ public class JwtUtil {
 
     /**
      * Parses and validates JWT token, extracting all claims.
+     * Throws if the signature is invalid or the token has expired.
      * @param token JWT string
      * @return Claims object containing token payload
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Checks if JWT token has expired.
-     * @param token JWT string
+     * Checks if parsed token claims have expired.
+     * @param claims Token claims
      * @return True if token is expired, false otherwise
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
-     * Generates JWT token for authenticated user with roles.
+     * Generates JWT token for authenticated user with roles and userId claim.
      * @param userDetails Spring Security user details
+     * @param userId MongoDB user id to include as a claim (may be null)
      * @return Signed JWT token string
      */
+    public String generateToken(UserDetails userDetails, String userId) {
+        return generateToken(userDetails, userId, new Date());
+    }
+
     /**
-     * Generates JWT token for authenticated user with roles and userId claim.
+     * Generates JWT token for authenticated user with roles and userId claim, dated at the given issue time.
      * @param userDetails Spring Security user details
      * @param userId MongoDB user id to include as a claim (may be null)
+     * @param issuedAt Issue time for the iat claim; expiration is counted from it
      * @return Signed JWT token string
      */
-    public String generateToken(UserDetails userDetails, String userId) {
+    public String generateToken(UserDetails userDetails, String userId, Date issuedAt) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("roles", userDetails.getAuthorities().stream()
                                       .map(GrantedAuthority::getAuthority)
@@ -110,33 +130,34 @@ public class JwtUtil {
         if (userId != null) {
             claims.put("userId", userId);
         }
-        return createToken(claims, userDetails.getUsername());
+        return createToken(claims, userDetails.getUsername(), issuedAt.getTime());
     }
 
     /**
      * Creates JWT token with claims, subject, and expiration.
      * @param claims Custom claims to include in token
      * @param subject Token subject (username)
+     * @param now Issue time in epoch millis
      * @return Compact JWT token string
      */
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, long now) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + EXPIRATION_TIME))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * Validates JWT token against user details.
+     * Validates JWT token against user details with a single parse.
      * @param token JWT string
      * @param userDetails User details to validate against
      * @return True if token is valid and not expired
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims));
     }
 }
@@ -0,0 +1,64 @@
+package com.hiringplatform.auth_service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks password verification and strength upgrades on the hashing pool.
+ */
+class PasswordHashingServiceTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+
+    private PasswordHashingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PasswordHashingService();
+        ReflectionTestUtils.setField(service, "passwordEncoder", encoder);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "threads", 1);
+        ReflectionTestUtils.setField(service, "queueCapacity", 4);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void matchingPasswordAtConfiguredStrengthIsNotRehashed() {
+        PasswordHashingService.Verification verification = service.verify("secret", encoder.encode("secret")).join();
+
+        assertTrue(verification.matched());
+        assertNull(verification.upgradedHash());
+    }
+
+    @Test
+    void weakerStoredHashIsUpgraded() {
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+
+        PasswordHashingService.Verification verification = service.verify("secret", weak).join();
+
+        assertTrue(verification.matched());
+        assertNotNull(verification.upgradedHash());
+        assertTrue(encoder.matches("secret", verification.upgradedHash()));
+        assertFalse(encoder.upgradeEncoding(verification.upgradedHash()));
+    }
+
+    @Test
+    void wrongPasswordAndUnknownUserAreRejected() {
+        assertFalse(service.verify("wrong", encoder.encode("secret")).join().matched());
+        assertFalse(service.verify("secret", null).join().matched());
+    }
+}
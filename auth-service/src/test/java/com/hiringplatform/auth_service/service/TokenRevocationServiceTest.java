@@ -0,0 +1,82 @@
+package com.hiringplatform.auth_service.service;
+
+import com.hiringplatform.auth_service.model.User;
+import com.hiringplatform.auth_service.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks revocation against second-precision iat claims, including tokens issued in the revocation's second.
+ */
+class TokenRevocationServiceTest {
+
+    private User user;
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("alice");
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        service = new TokenRevocationService();
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "cacheTtlSeconds", 30L);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", 100L);
+        service.init();
+    }
+
+    @Test
+    void revocationIsRecordedAtTheNextWholeSecond() {
+        long before = System.currentTimeMillis();
+        assertTrue(service.revokeAll("alice"));
+
+        long revokedAt = user.getTokensRevokedAt().getTime();
+        assertEquals(0, revokedAt % 1000);
+        assertTrue(revokedAt >= before && revokedAt - before < 2000);
+    }
+
+    @Test
+    void tokensFromBeforeTheRevocationAreRejected() {
+        assertTrue(service.revokeAll("alice"));
+        long revokedAt = user.getTokensRevokedAt().getTime();
+
+        assertTrue(service.isRevoked("alice", new Date(revokedAt - 1000)));
+        assertTrue(service.isRevoked("alice", null));
+    }
+
+    @Test
+    void loginInTheSameSecondAsTheRevocationIsAccepted() {
+        assertTrue(service.revokeAll("alice"));
+
+        Date issuedAt = service.issueTimeFor(user);
+        assertFalse(service.isRevoked("alice", iat(issuedAt)));
+    }
+
+    @Test
+    void legacySubSecondRevocationTimesAreRoundedUp() {
+        user.setTokensRevokedAt(new Date(1_700_000_000_300L));
+
+        assertTrue(service.isRevoked("alice", new Date(1_700_000_000_000L)));
+        assertFalse(service.isRevoked("alice", new Date(1_700_000_001_000L)));
+    }
+
+    /**
+     * Truncates an issue time to the second, as the iat claim does.
+     */
+    private static Date iat(Date issuedAt) {
+        return new Date(issuedAt.getTime() / 1000 * 1000);
+    }
+}
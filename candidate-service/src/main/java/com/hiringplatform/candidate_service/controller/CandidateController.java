@@ -2,12 +2,20 @@ package com.hiringplatform.candidate_service.controller;
 
 import com.hiringplatform.candidate_service.model.CandidateProfile;
 import com.hiringplatform.candidate_service.repository.CandidateProfileRepository;
+import com.hiringplatform.candidate_service.repository.ProfileUpsertRepository;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for candidate profile operations.
@@ -17,36 +25,36 @@ import java.util.Optional;
 @RequestMapping("/candidate")
 public class CandidateController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private CandidateProfileRepository candidateProfileRepository;
 
+    @Autowired
+    private ProfileUpsertRepository profileUpsertRepository;
+
+    @Value("${candidate.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${candidate.profiles.max-page-size:500}")
+    private int maxPageSize;
+
     /**
-     * Creates or updates candidate profile for authenticated user.
+     * Creates or updates candidate profile for authenticated user in a single atomic upsert.
      * @param profile Candidate profile data
      * @param userId User ID from gateway header
-     * @return Saved or updated profile
+     * @return Saved (201) or updated (200) profile with its new ETag
      */
     @PostMapping("/profile")
     public ResponseEntity<CandidateProfile> saveOrUpdateProfile(
             @RequestBody CandidateProfile profile,
             @RequestHeader("X-User-ID") String userId) {
         try {
-            Optional<CandidateProfile> existingProfileOpt = candidateProfileRepository.findByUserId(userId);
-            if (existingProfileOpt.isPresent()) {
-                CandidateProfile existingProfile = existingProfileOpt.get();
-                existingProfile.setFullName(profile.getFullName());
-                existingProfile.setEmail(profile.getEmail());
-                existingProfile.setTotalExperience(profile.getTotalExperience());
-                existingProfile.setSkills(profile.getSkills());
-                existingProfile.setResumeUrl(profile.getResumeUrl());
-                CandidateProfile updatedProfile = candidateProfileRepository.save(existingProfile);
-                return ResponseEntity.ok(updatedProfile);
-            } else {
-                profile.setUserId(userId);
-                profile.setId(null);
-                CandidateProfile savedProfile = candidateProfileRepository.save(profile);
-                return ResponseEntity.status(HttpStatus.CREATED).body(savedProfile);
-            }
+            ProfileUpsertRepository.Result result = profileUpsertRepository.upsertByUserId(userId, profile);
+            CandidateProfile savedProfile = result.profile();
+            return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                    .eTag(eTagOf(savedProfile))
+                    .body(savedProfile);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -54,25 +62,88 @@ public class CandidateController {
 
     /**
      * Retrieves candidate profile by profile ID.
+     * Answers 304 without a body when If-None-Match holds the current ETag.
      * @param profileId Profile document ID
-     * @return Candidate profile or 404
+     * @return Candidate profile with ETag, 304, or 404
      */
     @GetMapping("/profile/{profileId}")
     public ResponseEntity<CandidateProfile> getProfileById(@PathVariable String profileId) {
         return candidateProfileRepository.findById(profileId)
-                .map(ResponseEntity::ok)
+                .map(CandidateController::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Retrieves candidate profile by user ID for inter-service calls.
+     * Answers 304 without a body when If-None-Match holds the current ETag.
      * @param userId User ID from auth service
-     * @return Candidate profile or 404
+     * @return Candidate profile with ETag, 304, or 404
      */
     @GetMapping("/profile/user/{userId}")
     public ResponseEntity<CandidateProfile> getProfileByUserId(@PathVariable String userId) {
         return candidateProfileRepository.findByUserId(userId)
-                .map(ResponseEntity::ok)
+                .map(CandidateController::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Retrieves the profiles of several users in one query for inter-service calls.
+     * @param userIds User IDs from auth service; duplicates are ignored
+     * @return Profiles found, users without a profile omitted, or 400 if more IDs than the configured maximum
+     */
+    @PostMapping("/profiles/batch")
+    public ResponseEntity<List<CandidateProfile>> getProfilesByUserIds(@RequestBody List<String> userIds) {
+        Set<String> distinct = new LinkedHashSet<>(userIds);
+        if (distinct.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (distinct.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(candidateProfileRepository.findByUserIdIn(distinct));
+    }
+
+    /**
+     * Retrieves one page of profiles in ID order for inter-service bulk loads, such as Job Service's matching index.
+     * The next page's cursor is returned in the X-Next-Cursor header while more profiles remain.
+     * @param after ID of the last profile on the previous page, or absent for the first page
+     * @param limit Page size, capped at the configured maximum
+     * @return Page of profiles or 400 for an invalid cursor
+     */
+    @GetMapping("/profiles")
+    public ResponseEntity<List<CandidateProfile>> getProfiles(@RequestParam(required = false) String after,
+                                                              @RequestParam(required = false) Integer limit) {
+        if (after != null && !ObjectId.isValid(after)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        Pageable page = PageRequest.of(0, pageSize, Sort.by("id"));
+        List<CandidateProfile> profiles = after == null
+                ? candidateProfileRepository.findAllBy(page)
+                : candidateProfileRepository.findByIdGreaterThan(after, page);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (profiles.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, profiles.get(profiles.size() - 1).getId());
+        }
+        return response.body(profiles);
+    }
+
+    /**
+     * Builds a response with the profile's strong ETag.
+     * Spring compares it with If-None-Match and sends 304 before the profile is serialized.
+     * @param profile Candidate profile
+     * @return Response carrying the profile and its ETag
+     */
+    private static ResponseEntity<CandidateProfile> withETag(CandidateProfile profile) {
+        return ResponseEntity.ok().eTag(eTagOf(profile)).body(profile);
+    }
+
+    /**
+     * Builds a profile's ETag value, "id-version"; Job Service revalidates its copies with the same format.
+     * @param profile Candidate profile
+     * @return ETag value before quoting
+     */
+    private static String eTagOf(CandidateProfile profile) {
+        return profile.getId() + "-" + profile.getVersion();
+    }
 }
@@ -22,6 +22,7 @@ public class CandidateProfile {
     private int totalExperience;
     private List<String> skills;
     private String resumeUrl;
+    private long version;
 
     public String getId() {
         return id;
@@ -78,4 +79,12 @@ public class CandidateProfile {
     public void setResumeUrl(String resumeUrl) {
         this.resumeUrl = resumeUrl;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,9 +1,12 @@
 package com.hiringplatform.candidate_service.repository;
 
 import com.hiringplatform.candidate_service.model.CandidateProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,4 +23,26 @@ public interface CandidateProfileRepository extends MongoRepository<CandidatePro
      */
     Optional<CandidateProfile> findByUserId(String userId);
 
+    /**
+     * Finds the profiles of several users with one $in query on the userId index.
+     * @param userIds User IDs from auth service
+     * @return Profiles found; users without a profile are omitted
+     */
+    List<CandidateProfile> findByUserIdIn(Collection<String> userIds);
+
+    /**
+     * Finds the first page of profiles in the pageable's order.
+     * @param pageable Page size and sort
+     * @return Profiles in the page
+     */
+    List<CandidateProfile> findAllBy(Pageable pageable);
+
+    /**
+     * Finds the page of profiles after a keyset cursor.
+     * @param id ID of the last profile on the previous page
+     * @param pageable Page size and sort
+     * @return Profiles in the page
+     */
+    List<CandidateProfile> findByIdGreaterThan(String id, Pageable pageable);
+
 }
\ No newline at end of file
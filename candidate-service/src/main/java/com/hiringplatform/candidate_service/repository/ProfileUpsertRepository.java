@@ -0,0 +1,27 @@
+package com.hiringplatform.candidate_service.repository;
+
+import com.hiringplatform.candidate_service.model.CandidateProfile;
+
+/**
+ * Interface for writing candidate profiles keyed by user ID.
+ * Implemented with atomic MongoDB findAndModify calls.
+ */
+public interface ProfileUpsertRepository {
+
+    /**
+     * Result of an upsert.
+     * @param profile Profile as stored after the write
+     * @param created True if the profile did not exist before
+     */
+    record Result(CandidateProfile profile, boolean created) {
+    }
+
+    /**
+     * Creates or updates the profile of a user in one round-trip, bumping its version on every save.
+     * @param userId User ID from auth service
+     * @param profile Profile fields to store; its ID, user ID and version are ignored
+     * @return Stored profile and whether it was created
+     */
+    Result upsertByUserId(String userId, CandidateProfile profile);
+
+}
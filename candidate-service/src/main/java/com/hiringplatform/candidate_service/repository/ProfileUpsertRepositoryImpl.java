@@ -0,0 +1,50 @@
+package com.hiringplatform.candidate_service.repository;
+
+import com.hiringplatform.candidate_service.model.CandidateProfile;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Profile upsert using a single findAndModify on the unique userId index.
+ * Every save sets the fields and bumps the version in one round-trip, so an identical re-save also gets a new
+ * version and ETag. A pre-generated ID is set only on insert, so a returned document carrying it was created.
+ */
+@Repository
+public class ProfileUpsertRepositoryImpl implements ProfileUpsertRepository {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Result upsertByUserId(String userId, CandidateProfile profile) {
+        String insertId = new ObjectId().toHexString();
+        Query query = new Query(Criteria.where("userId").is(userId));
+        Update update = new Update()
+                .setOnInsert("_id", new ObjectId(insertId))
+                .set("fullName", profile.getFullName())
+                .set("email", profile.getEmail())
+                .set("totalExperience", profile.getTotalExperience())
+                .set("skills", profile.getSkills())
+                .set("resumeUrl", profile.getResumeUrl())
+                .inc("version", 1);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        CandidateProfile stored;
+        try {
+            stored = mongoTemplate.findAndModify(query, update, options, CandidateProfile.class);
+        } catch (DuplicateKeyException e) {
+            // A concurrent first save inserted the profile between our match and insert; it now matches
+            stored = mongoTemplate.findAndModify(query, update, options, CandidateProfile.class);
+        }
+        if (stored == null) {
+            throw new IllegalStateException("Upsert of the profile for user " + userId + " returned no document");
+        }
+        return new Result(stored, insertId.equals(stored.getId()));
+    }
+}
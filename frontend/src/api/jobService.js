@@ -1,9 +1,17 @@
 import axiosInstance from './axiosConfig';
 
-// Get all jobs
+const PAGE_SIZE = 500;
+
+// Get all jobs, following the X-Next-Cursor header until the last page
 export const getAllJobs = async () => {
-  const response = await axiosInstance.get('/posts/all');
-  return response.data;
+  const jobs = [];
+  let after;
+  do {
+    const response = await axiosInstance.get('/posts/all', { params: { limit: PAGE_SIZE, after } });
+    jobs.push(...response.data);
+    after = response.headers['x-next-cursor'];
+  } while (after);
+  return jobs;
 };
 
 // Search jobs by keyword
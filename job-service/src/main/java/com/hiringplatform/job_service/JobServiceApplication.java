@@ -3,6 +3,7 @@ package com.hiringplatform.job_service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for Job Service.
@@ -10,6 +11,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  */
 @SpringBootApplication
 @EnableFeignClients(basePackages = "com.hiringplatform.job_service.client")
+@EnableScheduling
 public class JobServiceApplication {
 
 	public static void main(String[] args) {
@@ -2,9 +2,17 @@ package com.hiringplatform.job_service.client;
 
 import com.hiringplatform.job_service.model.CandidateProfile;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Feign client for Candidate Service communication via Eureka.
@@ -21,4 +29,33 @@ public interface CandidateServiceClient {
     @GetMapping("/candidate/profile/user/{userId}")
     ResponseEntity<CandidateProfile> getProfileByUserId(@PathVariable("userId") String userId);
 
+    /**
+     * Fetches candidate profile by user ID only if it changed.
+     * An unchanged profile is answered with 304, which Feign raises as a FeignException with that status.
+     * @param userId User ID
+     * @param eTag ETag of the copy held locally
+     * @return ResponseEntity containing the current CandidateProfile
+     */
+    @GetMapping("/candidate/profile/user/{userId}")
+    ResponseEntity<CandidateProfile> revalidateProfileByUserId(@PathVariable("userId") String userId,
+                                                               @RequestHeader(HttpHeaders.IF_NONE_MATCH) String eTag);
+
+    /**
+     * Fetches the profiles of several users in one call.
+     * @param userIds User IDs
+     * @return ResponseEntity containing the profiles found; users without a profile are omitted
+     */
+    @PostMapping("/candidate/profiles/batch")
+    ResponseEntity<List<CandidateProfile>> getProfilesByUserIds(@RequestBody Collection<String> userIds);
+
+    /**
+     * Fetches one page of all profiles in ID order.
+     * @param after ID of the last profile on the previous page, or null for the first page
+     * @param limit Page size
+     * @return ResponseEntity containing the page, with the next page's cursor in X-Next-Cursor while more remain
+     */
+    @GetMapping("/candidate/profiles")
+    ResponseEntity<List<CandidateProfile>> getProfiles(@RequestParam(value = "after", required = false) String after,
+                                                       @RequestParam("limit") int limit);
+
 }
@@ -0,0 +1,23 @@
+package com.hiringplatform.job_service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors used by Job Service for concurrent remote calls.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Virtual-thread executor for blocking lookups (Mongo, Feign) issued in parallel.
+     * @return Executor starting one virtual thread per task
+     */
+    @Bean(name = "lookupExecutor", destroyMethod = "close")
+    public ExecutorService lookupExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,19 @@
+package com.hiringplatform.job_service.config;
+
+import com.hiringplatform.job_service.model.JobPosting;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bumps a job posting's version on every save, including bulk imports, so its ETag changes whenever the posting does.
+ * A plain counter is used instead of @Version so postings saved before versioning are updated, not re-inserted.
+ */
+@Component
+public class JobPostingVersionCallback implements BeforeConvertCallback<JobPosting> {
+
+    @Override
+    public JobPosting onBeforeConvert(JobPosting posting, String collection) {
+        posting.setVersion(posting.getVersion() + 1);
+        return posting;
+    }
+}
@@ -1,21 +1,56 @@
 package com.hiringplatform.job_service.controller;
 
-import com.hiringplatform.job_service.client.AuthServiceClient;
-import com.hiringplatform.job_service.client.CandidateServiceClient;
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
 import com.hiringplatform.job_service.dto.UserDTO;
+import com.hiringplatform.job_service.matching.SkillMatchEngine;
 import com.hiringplatform.job_service.model.CandidateProfile;
+import com.hiringplatform.job_service.model.JobApplication;
 import com.hiringplatform.job_service.model.JobPosting;
 import com.hiringplatform.job_service.repository.JobPostingRepository;
 import com.hiringplatform.job_service.repository.SearchRepository;
-import com.hiringplatform.job_service.service.EmailService;
+import com.hiringplatform.job_service.search.SuggestionTrie;
+import com.hiringplatform.job_service.service.ApplicationNotificationService;
+import com.hiringplatform.job_service.service.CandidateProfileService;
+import com.hiringplatform.job_service.service.JobApplicationService;
+import com.hiringplatform.job_service.service.JobImportService;
+import com.hiringplatform.job_service.service.MatchingService;
+import com.hiringplatform.job_service.service.RecruiterContactService;
+import com.hiringplatform.job_service.service.SearchResultCache;
+import com.hiringplatform.job_service.service.SuggestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * REST controller for job posting management.
@@ -25,6 +60,14 @@ import java.util.Optional;
 @RequestMapping("/posts")
 public class JobController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final String FULL_FIELDS = "full";
+
+    private static final String SUMMARY_FIELDS = "summary";
+
     @Autowired
     private JobPostingRepository jobPostingRepository;
 
@@ -32,42 +75,230 @@ public class JobController {
     private SearchRepository searchRepository;
 
     @Autowired
-    private EmailService emailService;
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private ApplicationNotificationService applicationNotificationService;
+
+    @Autowired
+    private RecruiterContactService recruiterContactService;
+
+    @Autowired
+    private CandidateProfileService candidateProfileService;
 
     @Autowired
-    private AuthServiceClient authServiceClient;
+    @Qualifier("lookupExecutor")
+    private ExecutorService lookupExecutor;
 
     @Autowired
-    private CandidateServiceClient candidateServiceClient;
+    private ObjectMapper objectMapper;
+
+    @Value("${job.apply.lookup-timeout-ms:3000}")
+    private long lookupTimeoutMs;
+
+    @Value("${job.posts.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${job.posts.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${job.posts.shared-max-age-seconds:2}")
+    private long sharedMaxAgeSeconds;
+
+    @Value("${job.search.page-size:10}")
+    private int defaultSearchPageSize;
+
+    @Value("${job.search.max-page-size:100}")
+    private int maxSearchPageSize;
+
+    @Value("${job.matching.max-results:50}")
+    private int maxMatches;
 
     /**
-     * Retrieves all job postings.
-     * @return List of all job postings
+     * Retrieves one page of job postings in ID order.
+     * The next page's cursor is returned in the X-Next-Cursor header while more postings remain.
+     * @param after ID of the last posting on the previous page, or absent for the first page
+     * @param limit Page size, capped at the configured maximum
+     * @param fields 'full' for whole postings or 'summary' for listing fields only
+     * @return Page of job postings or 400 for an invalid cursor or field set
      */
     @GetMapping("/all")
-    public List<JobPosting> getAllPosts() {
-        return jobPostingRepository.findAll();
+    public ResponseEntity<?> getAllPosts(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(defaultValue = FULL_FIELDS) String fields) {
+        if (after != null && !ObjectId.isValid(after)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        return switch (fields) {
+            case FULL_FIELDS -> page(after, pageSize, JobPosting.class, JobPosting::getId);
+            case SUMMARY_FIELDS -> page(after, pageSize, JobPostingSummary.class, JobPostingSummary::getId);
+            default -> ResponseEntity.badRequest().build();
+        };
+    }
+
+    /**
+     * Streams all job postings as newline-delimited JSON, writing each as the database cursor yields it.
+     * @param fields 'full' for whole postings or 'summary' for listing fields only
+     * @return Streaming response body or 400 for an invalid field set
+     */
+    @GetMapping(value = "/all/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllPosts(@RequestParam(defaultValue = FULL_FIELDS) String fields) {
+        Class<?> type = switch (fields) {
+            case FULL_FIELDS -> JobPosting.class;
+            case SUMMARY_FIELDS -> JobPostingSummary.class;
+            default -> null;
+        };
+        if (type == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            try (Stream<?> posts = jobPostingRepository.streamAllByOrderByIdAsc(type)) {
+                Iterator<?> iterator = posts.iterator();
+                while (iterator.hasNext()) {
+                    out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                }
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * Suggests job roles and skills for autocomplete without querying the database.
+     * @param prefix Typed prefix
+     * @param limit Maximum number of suggestions, clamped to between 1 and SuggestionTrie.MAX_SUGGESTIONS
+     * @return Matching roles and skills, most used first
+     */
+    @GetMapping("/suggest")
+    public List<String> suggest(@RequestParam String prefix,
+                                @RequestParam(defaultValue = "10") int limit) {
+        return suggestionService.suggest(prefix, Math.max(1, Math.min(limit, SuggestionTrie.MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * Ranks the job postings that best fit the calling candidate's skills and experience (JOB_SEEKER role required).
+     * @param userId Candidate user ID from header
+     * @param limit Maximum number of matches, capped at the configured maximum
+     * @return Best postings first, or an error message
+     */
+    @GetMapping("/matches/jobs")
+    public ResponseEntity<?> matchJobs(@RequestHeader("X-User-ID") String userId,
+                                       @RequestParam(defaultValue = "10") int limit) {
+        Optional<List<SkillMatchEngine.Match>> matches;
+        try {
+            matches = matchingService.matchJobsForCandidate(userId, Math.max(1, Math.min(limit, maxMatches)));
+        } catch (FeignException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error contacting candidate service.");
+        }
+        if (matches.isEmpty()) {
+            return ResponseEntity.badRequest().body("Candidate profile not found. Please create one first.");
+        }
+        return ResponseEntity.ok(matches.get());
+    }
+
+    /**
+     * Ranks the candidates that best fit a job posting (RECRUITER role required, own postings only).
+     * @param jobId Job posting ID
+     * @param userId Recruiter user ID from header
+     * @param limit Maximum number of matches, capped at the configured maximum
+     * @return Best candidates first, or an error message
+     */
+    @GetMapping("/{jobId}/candidates")
+    public ResponseEntity<?> matchCandidates(@PathVariable String jobId,
+                                             @RequestHeader("X-User-ID") String userId,
+                                             @RequestParam(defaultValue = "10") int limit) {
+        Optional<JobPosting> job = jobPostingRepository.findById(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Job not found.");
+        }
+        if (!userId.equals(job.get().getRecruiterId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Only the recruiter who posted this job can view matching candidates.");
+        }
+        return ResponseEntity.ok(matchingService.matchCandidatesForJob(jobId, Math.max(1, Math.min(limit, maxMatches))));
     }
 
     /**
      * Retrieves specific job posting by ID.
+     * Carries a strong "id-version" ETag; Spring answers a matching If-None-Match with 304 before serializing.
+     * The gateway may reuse the response for job.posts.shared-max-age-seconds, so an edit can take that long to show.
      * @param id Job posting ID
-     * @return Job posting or 404
+     * @return Job posting with ETag, 304, or 404
      */
     @GetMapping("/{id}")
     public ResponseEntity<JobPosting> getPostById(@PathVariable String id) {
-        return jobPostingRepository.findById(id).map(ResponseEntity::ok)
+        return jobPostingRepository.findById(id)
+                .map(post -> ResponseEntity.ok().cacheControl(publicReadCacheControl()).eTag(post.getId() + "-" + post.getVersion()).body(post))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Searches job postings by text query.
+     * The next page's cursor is returned in the X-Next-Cursor header while more results may remain.
      * @param text Search keyword
-     * @return List of matching job postings
+     * @param sort 'score' for relevance or 'experience' for least experience first
+     * @param offset Number of results to skip; not combinable with after
+     * @param after Cursor from the previous page's X-Next-Cursor header
+     * @param limit Page size, capped at the configured maximum
+     * @param minExperience Minimum required experience in years
+     * @param maxExperience Maximum required experience in years
+     * @param skills Skills every result must list
+     * @param fields 'full' for whole postings or 'summary' for listing fields only
+     * @return Page of matching job postings or 400 for invalid parameters
      */
     @GetMapping("/search/{text}")
-    public List<JobPosting> search(@PathVariable String text) {
-        return searchRepository.findByText(text);
+    public ResponseEntity<?> search(@PathVariable String text,
+                                    @RequestParam(defaultValue = "score") String sort,
+                                    @RequestParam(defaultValue = "0") int offset,
+                                    @RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit,
+                                    @RequestParam(required = false) Integer minExperience,
+                                    @RequestParam(required = false) Integer maxExperience,
+                                    @RequestParam(required = false) List<String> skills,
+                                    @RequestParam(defaultValue = FULL_FIELDS) String fields) {
+        if (offset < 0 || (offset > 0 && after != null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        JobSearchQuery query = new JobSearchQuery();
+        try {
+            query.setSort(JobSearchQuery.SortMode.valueOf(sort.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        query.setText(text);
+        query.setOffset(offset);
+        query.setSearchAfter(after);
+        query.setPageSize(limit == null ? defaultSearchPageSize : Math.max(1, Math.min(limit, maxSearchPageSize)));
+        query.setMinExperience(minExperience);
+        query.setMaxExperience(maxExperience);
+        if (skills != null) {
+            query.setSkills(skills.stream().map(String::trim).filter(skill -> !skill.isEmpty()).toList());
+        }
+        try {
+            return switch (fields) {
+                case FULL_FIELDS -> searchPage(
+                        searchResultCache.get(query, false, () -> searchRepository.search(query)));
+                case SUMMARY_FIELDS -> searchPage(
+                        searchResultCache.get(query, true, () -> searchRepository.searchSummaries(query)));
+                default -> ResponseEntity.badRequest().build();
+            };
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -81,13 +312,39 @@ public class JobController {
             return ResponseEntity.badRequest().body(null);
         }
         post.setId(null);
+        post.setVersion(0);
         JobPosting savedPost = jobPostingRepository.save(post);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedPost);
     }
 
+    /**
+     * Imports job postings in bulk from newline-delimited JSON (RECRUITER role required).
+     * Each line's outcome is streamed back as soon as it is known, followed by a summary line with throughput.
+     * @param body NDJSON request body, one job posting per line
+     * @return Streaming per-line results and summary
+     */
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> importPosts(InputStream body) {
+        StreamingResponseBody results = out -> {
+            JobImportService.Summary summary = jobImportService.importPostings(body, result -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.write(objectMapper.writeValueAsBytes(summary));
+            out.write('\n');
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(results);
+    }
+
     /**
      * Processes job application (JOB_SEEKER role required).
-     * Fetches candidate profile and recruiter details, sends notification email.
+     * Records the application first so a repeated apply returns before any remote work,
+     * then fetches the candidate profile and recruiter concurrently and queues the notification email.
      * @param jobId Job ID being applied for
      * @param applyingUserId Applicant user ID from header
      * @return Success or error message
@@ -95,108 +352,228 @@ public class JobController {
     @PostMapping("/apply/{jobId}")
     public ResponseEntity<String> applyForJob(@PathVariable String jobId,
                                                @RequestHeader("X-User-ID") String applyingUserId) {
-        Optional<JobPosting> jobOpt = jobPostingRepository.findById(jobId);
+        Optional<JobPosting> jobOpt;
+        try {
+            jobOpt = jobPostingRepository.findById(jobId);
+        } catch (DataAccessException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error retrieving job posting.");
+        }
         if (jobOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Job not found.");
         }
         JobPosting job = jobOpt.get();
-        String recruiterId = job.getRecruiterId();
-        CandidateProfile candidateProfile = null;
+        Optional<JobApplication> application;
         try {
-            ResponseEntity<CandidateProfile> profileResponse = candidateServiceClient
-                    .getProfileByUserId(applyingUserId);
-            if (profileResponse.getStatusCode() == HttpStatus.OK && profileResponse.getBody() != null) {
-                candidateProfile = profileResponse.getBody();
-            } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body("Candidate profile not found or service error. Please ensure profile exists.");
-            }
-        } catch (FeignException.NotFound ex) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body("Candidate profile not found. Please create one first.");
-        } catch (FeignException ex) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error contacting candidate service.");
-        } catch (Exception e) {
+            application = jobApplicationService.record(job, applyingUserId);
+        } catch (DataAccessException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("An unexpected error occurred retrieving profile.");
+                    .body("Could not record application. Please try again.");
         }
-        if (candidateProfile == null) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to retrieve candidate profile details.");
+        if (application.isEmpty()) {
+            return ResponseEntity.ok("Application already submitted.");
         }
-        String recruiterEmail = null;
+        CompletableFuture<Optional<CandidateProfile>> profileFuture = candidateProfileService.getProfile(applyingUserId)
+                .orTimeout(lookupTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<Optional<UserDTO>> recruiterFuture =
+                lookup(() -> recruiterContactService.getRecruiter(job.getRecruiterId()));
         try {
-            ResponseEntity<UserDTO> response = authServiceClient.getUserById(recruiterId);
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                recruiterEmail = response.getBody().getEmail();
-                if (recruiterEmail == null || recruiterEmail.isEmpty()) {
-                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                            .body("Recruiter email could not be determined from auth service response.");
-                }
-            } else {
+            CandidateProfile candidateProfile = awaitCandidateProfile(profileFuture);
+            String recruiterEmail = awaitRecruiterEmail(recruiterFuture);
+            try {
+                applicationNotificationService.notifyRecruiter(recruiterEmail, candidateProfile, job);
+            } catch (Exception e) {
+                jobApplicationService.withdraw(application.get());
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body("Could not retrieve recruiter details (Status: " + response.getStatusCode() + ")");
+                        .body("Could not record application notification. Please try again.");
             }
-        } catch (FeignException.NotFound ex) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Recruiter user associated with the job not found.");
-        } catch (FeignException ex) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Error contacting authentication service.");
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("An unexpected error occurred retrieving recruiter email.");
+            return ResponseEntity.ok("Application submitted successfully!");
+        } catch (ApplyLookupException e) {
+            jobApplicationService.withdraw(application.get());
+            return ResponseEntity.status(e.getStatus()).body(e.getMessage());
         }
-        if (recruiterEmail == null || recruiterEmail.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Recruiter email could not be determined.");
+    }
+
+    /**
+     * Lists the calling candidate's applications, newest first (JOB_SEEKER role required).
+     * The next page's cursor is returned in the X-Next-Cursor header while more applications remain.
+     * @param userId Candidate user ID from header
+     * @param before ID of the last application on the previous page, or absent for the first page
+     * @param limit Page size, capped at the configured maximum
+     * @return Page of applications or 400 for an invalid cursor
+     */
+    @GetMapping("/applications/mine")
+    public ResponseEntity<List<JobApplication>> getMyApplications(@RequestHeader("X-User-ID") String userId,
+                                                                  @RequestParam(required = false) String before,
+                                                                  @RequestParam(required = false) Integer limit) {
+        if (before != null && !ObjectId.isValid(before)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        return applicationPage(jobApplicationService.listForCandidate(userId, before, pageSize), pageSize);
+    }
+
+    /**
+     * Lists applications to the calling recruiter's postings, newest first (RECRUITER role required).
+     * The next page's cursor is returned in the X-Next-Cursor header while more applications remain.
+     * @param userId Recruiter user ID from header
+     * @param before ID of the last application on the previous page, or absent for the first page
+     * @param limit Page size, capped at the configured maximum
+     * @return Page of applications or 400 for an invalid cursor
+     */
+    @GetMapping("/applications/received")
+    public ResponseEntity<List<JobApplication>> getReceivedApplications(@RequestHeader("X-User-ID") String userId,
+                                                                        @RequestParam(required = false) String before,
+                                                                        @RequestParam(required = false) Integer limit) {
+        if (before != null && !ObjectId.isValid(before)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        return applicationPage(jobApplicationService.listForRecruiter(userId, before, pageSize), pageSize);
+    }
+
+    /**
+     * Fetches one keyset page in ID order and sets the next-page cursor header when the page is full.
+     * @param after ID of the last posting on the previous page, or null
+     * @param pageSize Page size
+     * @param type JobPosting or a projection
+     * @param idOf ID accessor for the result type
+     * @param <T> Result type
+     * @return Page response
+     */
+    private <T> ResponseEntity<List<T>> page(String after, int pageSize, Class<T> type, Function<T, String> idOf) {
+        Pageable page = PageRequest.of(0, pageSize, Sort.by("id"));
+        List<T> posts = after == null
+                ? jobPostingRepository.findAllBy(page, type)
+                : jobPostingRepository.findByIdGreaterThan(after, page, type);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(publicReadCacheControl());
+        if (posts.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, idOf.apply(posts.get(posts.size() - 1)));
+        }
+        return response.body(posts);
+    }
+
+    /**
+     * Cache-Control for public posting reads. Clients revalidate on every use, while shared caches such as the
+     * gateway may reuse a response for job.posts.shared-max-age-seconds; zero sends no-cache so nothing is shared.
+     * @return Cache-Control for listing, search and single-posting responses
+     */
+    private CacheControl publicReadCacheControl() {
+        if (sharedMaxAgeSeconds <= 0) {
+            return CacheControl.noCache();
         }
-        String subject = "New Application for " + job.getRole();
-        String body = buildApplicationEmailBody(candidateProfile, job);
+        return CacheControl.maxAge(Duration.ZERO).sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds)).cachePublic();
+    }
+
+    /**
+     * Builds an application listing response, setting the next-page cursor header when the page is full.
+     * @param applications Applications in the page
+     * @param pageSize Page size
+     * @return Listing response
+     */
+    private ResponseEntity<List<JobApplication>> applicationPage(List<JobApplication> applications, int pageSize) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (applications.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, applications.get(applications.size() - 1).getId());
+        }
+        return response.body(applications);
+    }
+
+    /**
+     * Builds a search response, setting the next-page cursor header when there is one.
+     * @param result Page of search results
+     * @param <T> Result type
+     * @return Search response
+     */
+    private <T> ResponseEntity<List<T>> searchPage(JobSearchResult<T> result) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(publicReadCacheControl());
+        if (result.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, result.getNextCursor());
+        }
+        return response.body(result.getItems());
+    }
+
+    /**
+     * Starts a blocking lookup on a virtual thread, bounded by the configured timeout.
+     * @param call Blocking remote or database call
+     * @param <T> Result type
+     * @return Future failing with TimeoutException if the call exceeds the timeout
+     */
+    private <T> CompletableFuture<T> lookup(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, lookupExecutor)
+                .orTimeout(lookupTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits for the candidate profile lookup and maps failures to client-facing errors.
+     * @param profileFuture Pending batched candidate profile lookup
+     * @return Candidate profile
+     */
+    private CandidateProfile awaitCandidateProfile(CompletableFuture<Optional<CandidateProfile>> profileFuture) {
+        Optional<CandidateProfile> profile;
         try {
-            emailService.sendEmail(recruiterEmail, subject, body);
-        } catch (Exception e) {
-        }
-        return ResponseEntity.ok("Application submitted successfully!");
-    }
-
-    /**
-     * Builds HTML email body for application notification.
-     * @param profile Candidate profile
-     * @param job Job posting details
-     * @return HTML email body string
-     */
-    private String buildApplicationEmailBody(CandidateProfile profile, JobPosting job) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("<html><body>");
-        sb.append("<h1>New Application Received</h1>");
-        sb.append("<p>A candidate has applied for the position: <strong>").append(job.getRole())
-                .append("</strong> (Job ID: ").append(job.getId()).append(")</p>");
-        sb.append("<hr>");
-        sb.append("<h2>Candidate Details:</h2>");
-        sb.append("<table border='0' cellpadding='5' style='border-collapse: collapse;'>");
-        sb.append("<tr><td style='vertical-align: top;'><strong>Name:</strong></td><td>").append(profile.getFullName())
-                .append("</td></tr>");
-        sb.append("<tr><td style='vertical-align: top;'><strong>Email:</strong></td><td>").append(profile.getEmail())
-                .append("</td></tr>");
-        sb.append("<tr><td style='vertical-align: top;'><strong>Experience:</strong></td><td>")
-                .append(profile.getTotalExperience()).append(" years</td></tr>");
-        if (profile.getSkills() != null && !profile.getSkills().isEmpty()) {
-            sb.append("<tr><td style='vertical-align: top;'><strong>Skills:</strong></td><td>")
-                    .append(String.join(", ", profile.getSkills())).append("</td></tr>");
-        } else {
-            sb.append("<tr><td style='vertical-align: top;'><strong>Skills:</strong></td><td>Not provided</td></tr>");
-        }
-        if (profile.getResumeUrl() != null && !profile.getResumeUrl().isEmpty()) {
-            sb.append("<tr><td style='vertical-align: top;'><strong>Resume:</strong></td><td><a href='")
-                    .append(profile.getResumeUrl()).append("' target='_blank'>View Resume</a></td></tr>");
-        } else {
-            sb.append("<tr><td style='vertical-align: top;'><strong>Resume:</strong></td><td>Not provided</td></tr>");
-        }
-        sb.append("</table>");
-        sb.append("<hr>");
-        sb.append("<p style='font-size: 0.9em; color: gray;'>This is an automated email from the Hiring Platform.</p>");
-        sb.append("</body></html>");
-        return sb.toString();
+            profile = profileFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FeignException || cause instanceof TimeoutException) {
+                throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR, "Error contacting candidate service.");
+            }
+            throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "An unexpected error occurred retrieving profile.");
+        }
+        if (profile.isEmpty()) {
+            throw new ApplyLookupException(HttpStatus.BAD_REQUEST,
+                    "Candidate profile not found. Please create one first.");
+        }
+        return profile.get();
+    }
+
+    /**
+     * Waits for the recruiter lookup and maps failures to client-facing errors.
+     * @param recruiterFuture Pending recruiter lookup
+     * @return Recruiter email address
+     */
+    private String awaitRecruiterEmail(CompletableFuture<Optional<UserDTO>> recruiterFuture) {
+        Optional<UserDTO> recruiter;
+        try {
+            recruiter = recruiterFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FeignException || cause instanceof TimeoutException) {
+                throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Error contacting authentication service.");
+            }
+            if (cause instanceof IllegalStateException) {
+                throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR, cause.getMessage());
+            }
+            throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "An unexpected error occurred retrieving recruiter email.");
+        }
+        if (recruiter.isEmpty()) {
+            throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Recruiter user associated with the job not found.");
+        }
+        String recruiterEmail = recruiter.get().getEmail();
+        if (recruiterEmail == null || recruiterEmail.isEmpty()) {
+            throw new ApplyLookupException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Recruiter email could not be determined from auth service response.");
+        }
+        return recruiterEmail;
+    }
+
+    /**
+     * Failure of one of the apply lookups, carrying the response status and message to return.
+     */
+    private static class ApplyLookupException extends RuntimeException {
+
+        private final HttpStatus status;
+
+        ApplyLookupException(HttpStatus status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        HttpStatus getStatus() {
+            return status;
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.hiringplatform.job_service.dto;
+
+import java.util.List;
+
+/**
+ * Listing view of a job posting without the description or recruiter.
+ * Repository queries returning this type fetch only these fields from MongoDB.
+ */
+public class JobPostingSummary {
+
+    /**
+     * Fields read from the JobPostings collection for a summary; the ID is always included.
+     */
+    public static final List<String> FIELDS = List.of("role", "experience", "skillSet");
+
+    private final String id;
+    private final String role;
+    private final int experience;
+    private final List<String> skillSet;
+
+    public JobPostingSummary(String id, String role, int experience, List<String> skillSet) {
+        this.id = id;
+        this.role = role;
+        this.experience = experience;
+        this.skillSet = skillSet;
+    }
+
+    public String getId() { return id; }
+    public String getRole() { return role; }
+    public int getExperience() { return experience; }
+    public List<String> getSkillSet() { return skillSet; }
+}
@@ -0,0 +1,46 @@
+package com.hiringplatform.job_service.dto;
+
+import java.util.List;
+
+/**
+ * Job search request: text, ranking, paging and filters.
+ * Page through results with either an offset or the cursor returned by the previous page.
+ */
+public class JobSearchQuery {
+
+    /**
+     * Result ordering.
+     */
+    public enum SortMode {
+        /** Most relevant first. */
+        SCORE,
+        /** Least experience required first. */
+        EXPERIENCE
+    }
+
+    private String text;
+    private SortMode sort = SortMode.SCORE;
+    private int offset;
+    private String searchAfter;
+    private int pageSize = 10;
+    private Integer minExperience;
+    private Integer maxExperience;
+    private List<String> skills = List.of();
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+    public SortMode getSort() { return sort; }
+    public void setSort(SortMode sort) { this.sort = sort; }
+    public int getOffset() { return offset; }
+    public void setOffset(int offset) { this.offset = offset; }
+    public String getSearchAfter() { return searchAfter; }
+    public void setSearchAfter(String searchAfter) { this.searchAfter = searchAfter; }
+    public int getPageSize() { return pageSize; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+    public Integer getMinExperience() { return minExperience; }
+    public void setMinExperience(Integer minExperience) { this.minExperience = minExperience; }
+    public Integer getMaxExperience() { return maxExperience; }
+    public void setMaxExperience(Integer maxExperience) { this.maxExperience = maxExperience; }
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+}
@@ -0,0 +1,26 @@
+package com.hiringplatform.job_service.dto;
+
+import java.util.List;
+
+/**
+ * One page of job search results.
+ * @param <T> JobPosting or a projection such as JobPostingSummary
+ */
+public class JobSearchResult<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public JobSearchResult(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+
+    /**
+     * Returns the cursor for the next page.
+     * @return Cursor to pass as searchAfter, or null if this is the last page
+     */
+    public String getNextCursor() { return nextCursor; }
+}
@@ -0,0 +1,341 @@
+package com.hiringplatform.job_service.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory matcher between job postings and candidates by shared skills and experience.
+ * Skills are interned to integer IDs; each posting and candidate is a sorted skill-ID array, and
+ * per-skill lists of postings and candidates let a query touch only entries sharing a skill.
+ * A match scores 0.8 x the share of the posting's skills the candidate has plus 0.2 x experience fit,
+ * where fit is the candidate's experience over the required experience, capped at 1.
+ * Safe for concurrent use.
+ */
+public class SkillMatchEngine {
+
+    private static final double SKILL_WEIGHT = 0.8;
+    private static final double EXPERIENCE_WEIGHT = 0.2;
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score)
+            .thenComparing(Match::id, Comparator.reverseOrder());
+
+    private static final ThreadLocal<int[]> OVERLAP_COUNTS = ThreadLocal.withInitial(() -> new int[1024]);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> skillIds = new HashMap<>();
+
+    private final Side postings = new Side();
+
+    private final Side candidates = new Side();
+
+    /**
+     * Ranked match.
+     * @param id Posting ID or candidate user ID
+     * @param matchedSkills Number of shared skills
+     * @param score Match score between 0 and 1
+     */
+    public record Match(String id, int matchedSkills, double score) {
+    }
+
+    /**
+     * Adds or replaces a job posting.
+     * @param id Posting ID
+     * @param skills Required skills
+     * @param requiredExperience Required experience in years
+     */
+    public void putPosting(String id, Collection<String> skills, int requiredExperience) {
+        put(postings, id, skills, requiredExperience);
+    }
+
+    /**
+     * Removes a job posting.
+     * @param id Posting ID
+     */
+    public void removePosting(String id) {
+        remove(postings, id);
+    }
+
+    /**
+     * Adds or replaces a candidate.
+     * @param userId Candidate user ID
+     * @param skills Candidate skills
+     * @param experience Candidate experience in years
+     */
+    public void putCandidate(String userId, Collection<String> skills, int experience) {
+        put(candidates, userId, skills, experience);
+    }
+
+    /**
+     * Removes a candidate.
+     * @param userId Candidate user ID
+     */
+    public void removeCandidate(String userId) {
+        remove(candidates, userId);
+    }
+
+    /**
+     * Removes every candidate not in the given set, e.g. after reloading all profiles.
+     * @param userIds Candidates to keep
+     */
+    public void retainCandidates(Set<String> userIds) {
+        lock.writeLock().lock();
+        try {
+            for (String userId : new ArrayList<>(candidates.ordinals.keySet())) {
+                if (!userIds.contains(userId)) {
+                    candidates.remove(userId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a candidate is indexed.
+     * @param userId Candidate user ID
+     * @return True if indexed
+     */
+    public boolean hasCandidate(String userId) {
+        lock.readLock().lock();
+        try {
+            return candidates.ordinals.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed postings.
+     * @return Posting count
+     */
+    public int postingCount() {
+        lock.readLock().lock();
+        try {
+            return postings.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed candidates.
+     * @return Candidate count
+     */
+    public int candidateCount() {
+        lock.readLock().lock();
+        try {
+            return candidates.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the postings that best fit an indexed candidate.
+     * @param userId Candidate user ID
+     * @param k Maximum number of matches
+     * @return Best postings first; empty if the candidate is not indexed
+     */
+    public List<Match> topPostingsForCandidate(String userId, int k) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = candidates.ordinals.get(userId);
+            if (ordinal == null) {
+                return List.of();
+            }
+            int experience = candidates.experience[ordinal];
+            return top(postings, candidates.skills.get(ordinal), k, (posting, overlap) ->
+                    score(overlap, postings.skills.get(posting).length, experience, postings.experience[posting]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the candidates that best fit an indexed posting.
+     * @param postingId Posting ID
+     * @param k Maximum number of matches
+     * @return Best candidates first; empty if the posting is not indexed
+     */
+    public List<Match> topCandidatesForPosting(String postingId, int k) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = postings.ordinals.get(postingId);
+            if (ordinal == null) {
+                return List.of();
+            }
+            int[] required = postings.skills.get(ordinal);
+            int requiredExperience = postings.experience[ordinal];
+            return top(candidates, required, k, (candidate, overlap) ->
+                    score(overlap, required.length, candidates.experience[candidate], requiredExperience));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double score(int overlap, int requiredSkills, int experience, int requiredExperience) {
+        double coverage = requiredSkills == 0 ? 0 : (double) overlap / requiredSkills;
+        double fit = requiredExperience <= 0 ? 1 : Math.min(1.0, (double) experience / requiredExperience);
+        return SKILL_WEIGHT * coverage + EXPERIENCE_WEIGHT * fit;
+    }
+
+    /**
+     * Counts shared skills for every entry reachable through the query's skills and keeps the k best.
+     * Caller holds the read lock.
+     */
+    private static List<Match> top(Side side, int[] querySkills, int k, Scorer scorer) {
+        if (k <= 0) {
+            return List.of();
+        }
+        int[] counts = OVERLAP_COUNTS.get();
+        if (counts.length < side.ids.size()) {
+            counts = new int[Math.max(side.ids.size(), counts.length * 2)];
+            OVERLAP_COUNTS.set(counts);
+        }
+        IntList touched = new IntList();
+        for (int skill : querySkills) {
+            IntList entries = skill < side.bySkill.size() ? side.bySkill.get(skill) : null;
+            if (entries == null) {
+                continue;
+            }
+            for (int i = 0; i < entries.size; i++) {
+                int entry = entries.values[i];
+                if (counts[entry]++ == 0) {
+                    touched.add(entry);
+                }
+            }
+        }
+        PriorityQueue<Match> best = new PriorityQueue<>(k + 1, RANKING);
+        for (int i = 0; i < touched.size; i++) {
+            int entry = touched.values[i];
+            int overlap = counts[entry];
+            counts[entry] = 0;
+            Match match = new Match(side.ids.get(entry), overlap, scorer.score(entry, overlap));
+            if (best.size() < k) {
+                best.add(match);
+            } else if (RANKING.compare(match, best.peek()) > 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked;
+    }
+
+    private void put(Side side, String id, Collection<String> skills, int experience) {
+        lock.writeLock().lock();
+        try {
+            int[] skillIdArray = skills == null ? new int[0] : skills.stream()
+                    .filter(skill -> skill != null && !skill.isBlank())
+                    .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                    .distinct()
+                    .mapToInt(skill -> skillIds.computeIfAbsent(skill, s -> skillIds.size()))
+                    .sorted()
+                    .toArray();
+            side.put(id, skillIdArray, experience);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Side side, String id) {
+        lock.writeLock().lock();
+        try {
+            side.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Scorer {
+        double score(int ordinal, int overlap);
+    }
+
+    /**
+     * Postings or candidates: dense ordinals, their skill arrays and experience, and per-skill ordinal lists.
+     * Ordinals of removed entries are reused.
+     */
+    private static final class Side {
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<int[]> skills = new ArrayList<>();
+        private final IntList freeOrdinals = new IntList();
+        private final List<IntList> bySkill = new ArrayList<>();
+        private int[] experience = new int[1024];
+
+        private void put(String id, int[] skillIdArray, int years) {
+            remove(id);
+            int ordinal;
+            if (freeOrdinals.size > 0) {
+                ordinal = freeOrdinals.values[--freeOrdinals.size];
+                ids.set(ordinal, id);
+                skills.set(ordinal, skillIdArray);
+            } else {
+                ordinal = ids.size();
+                ids.add(id);
+                skills.add(skillIdArray);
+                if (ordinal == experience.length) {
+                    experience = Arrays.copyOf(experience, experience.length * 2);
+                }
+            }
+            experience[ordinal] = years;
+            ordinals.put(id, ordinal);
+            for (int skill : skillIdArray) {
+                while (bySkill.size() <= skill) {
+                    bySkill.add(new IntList());
+                }
+                bySkill.get(skill).add(ordinal);
+            }
+        }
+
+        private void remove(String id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            for (int skill : skills.get(ordinal)) {
+                bySkill.get(skill).removeValue(ordinal);
+            }
+            ids.set(ordinal, null);
+            skills.set(ordinal, new int[0]);
+            freeOrdinals.add(ordinal);
+        }
+    }
+
+    /**
+     * Growable int array.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hiringplatform.job_service.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Job application stored in the 'Applications' collection.
+ * The unique (jobId, userId) index makes applying idempotent; the other indexes serve the
+ * candidate and recruiter listings newest first.
+ */
+@Document(collection = "Applications")
+@CompoundIndexes({
+        @CompoundIndex(name = "jobId_userId", def = "{'jobId': 1, 'userId': 1}", unique = true),
+        @CompoundIndex(name = "userId_id", def = "{'userId': 1, '_id': -1}"),
+        @CompoundIndex(name = "recruiterId_id", def = "{'recruiterId': 1, '_id': -1}")
+})
+public class JobApplication {
+
+    @Id
+    private String id;
+
+    private String jobId;
+    private String userId;
+    private String recruiterId;
+    private String jobRole;
+    private Date appliedAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(String recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public String getJobRole() {
+        return jobRole;
+    }
+
+    public void setJobRole(String jobRole) {
+        this.jobRole = jobRole;
+    }
+
+    public Date getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(Date appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hiringplatform.job_service.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 
@@ -18,8 +19,12 @@ public class JobPosting {
     private String description;
     private int experience;
     private List<String> skillSet;
+
+    @Indexed(name = "recruiterId")
     private String recruiterId;
 
+    private long version;
+
     public String getId() {
         return id;
     }
@@ -68,6 +73,14 @@ public class JobPosting {
         this.recruiterId = recruiterId;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     /**
      * Returns string representation of job posting for debugging.
      * @return String containing all job posting fields
@@ -81,6 +94,7 @@ public class JobPosting {
                ", experience=" + experience +
                ", skillSet=" + skillSet +
                ", recruiterId='" + recruiterId + '\'' +
+               ", version=" + version +
                '}';
     }
 }
@@ -0,0 +1,41 @@
+package com.hiringplatform.job_service.repository;
+
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoDB repository for outbox email messages.
+ * Claiming and state transitions are done atomically in EmailOutboxService.
+ */
+@Repository
+public interface EmailOutboxRepository extends MongoRepository<EmailOutboxMessage, String> {
+
+    /**
+     * Counts messages in a delivery state that are due by the given time.
+     * @param status Delivery state
+     * @param now Due time cut-off
+     * @return Number of messages
+     */
+    long countByStatusAndNextAttemptAtLessThanEqual(EmailOutboxMessage.Status status, Date now);
+
+    /**
+     * Finds the earliest-due message in a delivery state, used for lag reporting.
+     * @param status Delivery state
+     * @param now Due time cut-off
+     * @return Optional containing the earliest-due message if any
+     */
+    Optional<EmailOutboxMessage> findFirstByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            EmailOutboxMessage.Status status, Date now);
+
+    /**
+     * Finds messages claimed by one worker poll.
+     * @param claimToken Token written when the messages were claimed
+     * @return Claimed messages
+     */
+    List<EmailOutboxMessage> findByClaimToken(String claimToken);
+}
@@ -0,0 +1,91 @@
+package com.hiringplatform.job_service.repository;
+
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.search.JobPostingIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Search repository backed by an in-process BM25 index, for plain MongoDB deployments without Atlas Search.
+ * The index is loaded at startup and kept current from MongoDB save and delete events.
+ * Enabled with job.search.engine=memory.
+ */
+@Repository
+@ConditionalOnProperty(name = "job.search.engine", havingValue = "memory")
+public class InMemorySearchRepository implements SearchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchRepository.class);
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private final JobPostingIndex index = new JobPostingIndex();
+
+    /**
+     * Searches the in-memory index.
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job postings
+     */
+    @Override
+    public JobSearchResult<JobPosting> search(JobSearchQuery query) {
+        return index.search(query, posting -> posting);
+    }
+
+    /**
+     * Searches the in-memory index, returning summary fields only.
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job posting summaries
+     */
+    @Override
+    public JobSearchResult<JobPostingSummary> searchSummaries(JobSearchQuery query) {
+        return index.search(query, posting -> new JobPostingSummary(posting.getId(), posting.getRole(),
+                posting.getExperience(), posting.getSkillSet()));
+    }
+
+    /**
+     * Indexes every stored posting once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        try (Stream<JobPosting> postings = jobPostingRepository.streamAllByOrderByIdAsc(JobPosting.class)) {
+            postings.forEach(index::put);
+            log.info("Indexed {} job postings for in-memory search", index.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load job postings into the search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Indexes a posting after it is saved.
+     * @param event MongoDB after-save event
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof JobPosting posting) {
+            index.put(posting);
+        }
+    }
+
+    /**
+     * Removes a deleted posting from the index.
+     * @param event MongoDB after-delete event carrying the delete query
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (JobPosting.class.equals(event.getType()) && event.getSource().get("_id") != null) {
+            index.remove(event.getSource().get("_id").toString());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hiringplatform.job_service.repository;
+
+import com.hiringplatform.job_service.model.JobApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MongoDB repository for job applications.
+ * Listings page newest first by ID and are served by the (userId, _id) and (recruiterId, _id) indexes.
+ */
+@Repository
+public interface JobApplicationRepository extends MongoRepository<JobApplication, String> {
+
+    /**
+     * Finds the first page of a candidate's applications.
+     * @param userId Candidate user ID
+     * @param pageable Page size and sort, which must be by ID descending
+     * @return Applications in the page
+     */
+    List<JobApplication> findByUserId(String userId, Pageable pageable);
+
+    /**
+     * Finds the page of a candidate's applications following a keyset cursor.
+     * @param userId Candidate user ID
+     * @param id ID of the last application on the previous page
+     * @param pageable Page size and sort, which must be by ID descending
+     * @return Applications in the page
+     */
+    List<JobApplication> findByUserIdAndIdLessThan(String userId, String id, Pageable pageable);
+
+    /**
+     * Finds the first page of applications to a recruiter's postings.
+     * @param recruiterId Recruiter user ID
+     * @param pageable Page size and sort, which must be by ID descending
+     * @return Applications in the page
+     */
+    List<JobApplication> findByRecruiterId(String recruiterId, Pageable pageable);
+
+    /**
+     * Finds the page of applications to a recruiter's postings following a keyset cursor.
+     * @param recruiterId Recruiter user ID
+     * @param id ID of the last application on the previous page
+     * @param pageable Page size and sort, which must be by ID descending
+     * @return Applications in the page
+     */
+    List<JobApplication> findByRecruiterIdAndIdLessThan(String recruiterId, String id, Pageable pageable);
+}
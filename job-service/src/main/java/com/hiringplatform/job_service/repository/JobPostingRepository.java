@@ -1,13 +1,47 @@
 package com.hiringplatform.job_service.repository;
 
 import com.hiringplatform.job_service.model.JobPosting;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * MongoDB repository for JobPosting entity operations.
  * Provides standard CRUD operations for job postings.
  */
 @Repository
 public interface JobPostingRepository extends MongoRepository<JobPosting, String> {
+
+    /**
+     * Finds the first page of job postings in the order given by the page request.
+     * @param pageable Page size and sort
+     * @param type JobPosting or a projection such as JobPostingSummary
+     * @param <T> Result type
+     * @return Job postings in the page
+     */
+    <T> List<T> findAllBy(Pageable pageable, Class<T> type);
+
+    /**
+     * Finds the page of job postings following a keyset cursor.
+     * @param id ID of the last posting on the previous page
+     * @param pageable Page size and sort, which must be by ID
+     * @param type JobPosting or a projection such as JobPostingSummary
+     * @param <T> Result type
+     * @return Job postings in the page
+     */
+    <T> List<T> findByIdGreaterThan(String id, Pageable pageable, Class<T> type);
+
+    /**
+     * Streams every job posting in ID order from a server-side cursor.
+     * Callers must close the stream to release the cursor.
+     * @param type JobPosting or a projection such as JobPostingSummary
+     * @param <T> Result type
+     * @return Stream of job postings
+     */
+    @Meta(cursorBatchSize = 500)
+    <T> Stream<T> streamAllByOrderByIdAsc(Class<T> type);
 }
@@ -1,7 +1,9 @@
 package com.hiringplatform.job_service.repository;
 
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
 import com.hiringplatform.job_service.model.JobPosting;
-import java.util.List;
 
 /**
  * Interface for custom job posting search operations.
@@ -11,9 +13,16 @@ public interface SearchRepository {
 
     /**
      * Searches job postings by text query across multiple fields.
-     * @param text Search query string
-     * @return List of matching job postings
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job postings
      */
-    List<JobPosting> findByText(String text);
+    JobSearchResult<JobPosting> search(JobSearchQuery query);
 
-}
\ No newline at end of file
+    /**
+     * Searches job postings by text query, fetching only the summary fields.
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job posting summaries
+     */
+    JobSearchResult<JobPostingSummary> searchSummaries(JobSearchQuery query);
+
+}
@@ -1,5 +1,8 @@
 package com.hiringplatform.job_service.repository;
 
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
 import com.hiringplatform.job_service.model.JobPosting;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
@@ -8,6 +11,7 @@ import com.mongodb.client.MongoDatabase;
 import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.stereotype.Repository;
 
@@ -17,9 +21,12 @@ import java.util.List;
 
 /**
  * Search repository implementation using MongoDB Atlas Search.
- * Requires Atlas Search index named 'default' on JobPostings collection.
+ * Requires Atlas Search index named 'default' on JobPostings collection,
+ * with 'experience' indexed as a number for filtering and sorting.
+ * Used unless job.search.engine selects another engine.
  */
 @Repository
+@ConditionalOnProperty(name = "job.search.engine", havingValue = "atlas", matchIfMissing = true)
 public class SearchRepositoryImpl implements SearchRepository {
 
     @Autowired
@@ -33,35 +40,106 @@ public class SearchRepositoryImpl implements SearchRepository {
 
     private static final String COLLECTION_NAME = "JobPostings";
 
+    private static final String SEARCH_TOKEN_FIELD = "_searchToken";
+
     /**
      * Executes Atlas Search aggregation pipeline for job search.
-     * @param text Search query text
-     * @return List of matching job postings
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job postings
+     */
+    @Override
+    public JobSearchResult<JobPosting> search(JobSearchQuery query) {
+        return search(query, null, JobPosting.class);
+    }
+
+    /**
+     * Executes Atlas Search aggregation pipeline, projecting matches to summary fields.
+     * @param query Search text, ranking, paging and filters
+     * @return Page of matching job posting summaries
      */
     @Override
-    public List<JobPosting> findByText(String text) {
+    public JobSearchResult<JobPostingSummary> searchSummaries(JobSearchQuery query) {
+        Document projection = new Document(SEARCH_TOKEN_FIELD, 1);
+        JobPostingSummary.FIELDS.forEach(field -> projection.append(field, 1));
+        return search(query, projection, JobPostingSummary.class);
+    }
+
+    /**
+     * Runs the search pipeline and maps each match to the result type.
+     * Filters run inside the $search stage so the index does the filtering, not a later $match.
+     * @param query Search text, ranking, paging and filters
+     * @param projection Fields to keep, or null for whole documents
+     * @param type Result type
+     * @param <T> Result type
+     * @return Page of matches with the cursor for the next page
+     */
+    private <T> JobSearchResult<T> search(JobSearchQuery query, Document projection, Class<T> type) {
 
-        final List<JobPosting> posts = new ArrayList<>();
+        final List<T> posts = new ArrayList<>();
 
         MongoDatabase database = client.getDatabase(databaseName);
         MongoCollection<Document> collection = database.getCollection(COLLECTION_NAME);
 
-        AggregateIterable<Document> result = collection.aggregate(Arrays.asList(
-                new Document("$search",
-                        new Document("index", "default")
-                                .append("text",
-                                        new Document("query", text)
-                                                .append("path", Arrays.asList("role", "description", "skillSet"))
-                                )
-                ),
-                new Document("$sort",
-                        new Document("experience", 1L)
-                ),
-                new Document("$limit", 10L)
-        ));
-
-        result.forEach(doc -> posts.add(converter.read(JobPosting.class, doc)));
-
-        return posts;
+        Document search = new Document("index", "default")
+                .append("compound", buildCompound(query));
+        if (query.getSort() == JobSearchQuery.SortMode.EXPERIENCE) {
+            search.append("sort", new Document("experience", 1).append("_id", 1));
+        }
+        if (query.getSearchAfter() != null) {
+            search.append("searchAfter", query.getSearchAfter());
+        }
+
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$search", search));
+        if (query.getSearchAfter() == null && query.getOffset() > 0) {
+            pipeline.add(new Document("$skip", query.getOffset()));
+        }
+        pipeline.add(new Document("$limit", query.getPageSize()));
+        pipeline.add(new Document("$addFields",
+                new Document(SEARCH_TOKEN_FIELD, new Document("$meta", "searchSequenceToken"))));
+        if (projection != null) {
+            pipeline.add(new Document("$project", projection));
+        }
+
+        AggregateIterable<Document> result = collection.aggregate(pipeline);
+
+        String lastToken = null;
+        for (Document doc : result) {
+            lastToken = doc.getString(SEARCH_TOKEN_FIELD);
+            posts.add(converter.read(type, doc));
+        }
+
+        return new JobSearchResult<>(posts, posts.size() == query.getPageSize() ? lastToken : null);
+    }
+
+    /**
+     * Builds the compound operator: the text must match, while filters only narrow the results.
+     * @param query Search text and filters
+     * @return Compound operator document
+     */
+    private Document buildCompound(JobSearchQuery query) {
+        Document compound = new Document("must", List.of(
+                new Document("text",
+                        new Document("query", query.getText())
+                                .append("path", Arrays.asList("role", "description", "skillSet")))));
+
+        List<Document> filters = new ArrayList<>();
+        if (query.getMinExperience() != null || query.getMaxExperience() != null) {
+            Document range = new Document("path", "experience");
+            if (query.getMinExperience() != null) {
+                range.append("gte", query.getMinExperience());
+            }
+            if (query.getMaxExperience() != null) {
+                range.append("lte", query.getMaxExperience());
+            }
+            filters.add(new Document("range", range));
+        }
+        for (String skill : query.getSkills()) {
+            filters.add(new Document("phrase", new Document("query", skill).append("path", "skillSet")));
+        }
+        if (!filters.isEmpty()) {
+            compound.append("filter", filters);
+        }
+        return compound;
     }
 }
@@ -0,0 +1,260 @@
+package com.hiringplatform.job_service.search;
+
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
+import com.hiringplatform.job_service.model.JobPosting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory inverted index over job posting role, description and skills, ranked with BM25.
+ * Role and skill matches count more than description matches. Safe for concurrent use.
+ */
+public class JobPostingIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int ROLE_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Comparator<Hit> BY_SCORE = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::id);
+
+    private static final Comparator<Hit> BY_EXPERIENCE = Comparator.comparingInt(Hit::experience)
+            .thenComparing(Hit::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> posting ID -> weighted term frequency
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    private final Map<String, Entry> documents = new HashMap<>();
+
+    private long totalLength;
+
+    /**
+     * Adds a posting, replacing any earlier version with the same ID.
+     * @param posting Job posting with an ID
+     */
+    public void put(JobPosting posting) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, posting.getRole(), ROLE_WEIGHT);
+        addTerms(termFrequencies, posting.getDescription(), DESCRIPTION_WEIGHT);
+        Set<String> skills = new HashSet<>();
+        if (posting.getSkillSet() != null) {
+            for (String skill : posting.getSkillSet()) {
+                addTerms(termFrequencies, skill, SKILL_WEIGHT);
+                if (skill != null) {
+                    skills.add(skill.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(posting.getId());
+            documents.put(posting.getId(), new Entry(posting, length, termFrequencies.keySet(), skills));
+            totalLength += length;
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(posting.getId(), frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a posting from the index.
+     * @param id Job posting ID
+     */
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed postings.
+     * @return Posting count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index.
+     * @param query Search text, ranking, paging and filters
+     * @param mapper Converts matching postings to the result type
+     * @param <T> Result type
+     * @return Page of matches with the cursor for the next page
+     * @throws IllegalArgumentException if the query's search-after cursor is malformed
+     */
+    public <T> JobSearchResult<T> search(JobSearchQuery query, Function<JobPosting, T> mapper) {
+        Comparator<Hit> order = query.getSort() == JobSearchQuery.SortMode.EXPERIENCE ? BY_EXPERIENCE : BY_SCORE;
+        Hit after = query.getSearchAfter() == null ? null : decodeCursor(query.getSearchAfter());
+        Set<String> requiredSkills = new HashSet<>();
+        query.getSkills().forEach(skill -> requiredSkills.add(skill.trim().toLowerCase(Locale.ROOT)));
+
+        lock.readLock().lock();
+        try {
+            List<Hit> hits = new ArrayList<>();
+            score(tokenize(query.getText())).forEach((id, score) -> {
+                Entry entry = documents.get(id);
+                if (matchesFilters(entry, query, requiredSkills)) {
+                    hits.add(new Hit(id, score, entry.posting().getExperience(), entry.posting()));
+                }
+            });
+            hits.sort(order);
+
+            int start = 0;
+            if (after != null) {
+                while (start < hits.size() && order.compare(hits.get(start), after) <= 0) {
+                    start++;
+                }
+            } else {
+                start = Math.min(query.getOffset(), hits.size());
+            }
+            int end = Math.min(start + query.getPageSize(), hits.size());
+
+            List<T> page = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                page.add(mapper.apply(hits.get(i).posting()));
+            }
+            String nextCursor = end < hits.size() && end > start ? encodeCursor(hits.get(end - 1)) : null;
+            return new JobSearchResult<>(page, nextCursor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into lower-case terms on anything other than letters, digits, '+' and '#'.
+     * @param text Text to split
+     * @return Terms in order of appearance
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean termChar = i < text.length() && isTermChar(text.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isTermChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    /**
+     * Computes BM25 scores of every posting containing at least one query term. Caller holds the read lock.
+     */
+    private Map<String, Double> score(List<String> queryTerms) {
+        Map<String, Double> scores = new HashMap<>();
+        int documentCount = documents.size();
+        if (documentCount == 0) {
+            return scores;
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Map<String, Integer> matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+            int documentFrequency = matches.size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            matches.forEach((id, frequency) -> {
+                double lengthNorm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+                scores.merge(id, idf * frequency * (K1 + 1) / (frequency + lengthNorm), Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    private static boolean matchesFilters(Entry entry, JobSearchQuery query, Set<String> requiredSkills) {
+        int experience = entry.posting().getExperience();
+        if (query.getMinExperience() != null && experience < query.getMinExperience()) {
+            return false;
+        }
+        if (query.getMaxExperience() != null && experience > query.getMaxExperience()) {
+            return false;
+        }
+        return entry.skills().containsAll(requiredSkills);
+    }
+
+    private void removeLocked(String id) {
+        Entry previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Map<String, Integer> matches = postings.get(term);
+            matches.remove(id);
+            if (matches.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String term : tokenize(text)) {
+            termFrequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Encodes a hit's sort position as "scoreBits:experience:id".
+     */
+    private static String encodeCursor(Hit hit) {
+        return Long.toHexString(Double.doubleToLongBits(hit.score())) + ":" + hit.experience() + ":" + hit.id();
+    }
+
+    private static Hit decodeCursor(String cursor) {
+        String[] parts = cursor.split(":", 3);
+        try {
+            if (parts.length == 3) {
+                double score = Double.longBitsToDouble(Long.parseUnsignedLong(parts[0], 16));
+                return new Hit(parts[2], score, Integer.parseInt(parts[1]), null);
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException("Invalid search cursor");
+    }
+
+    private record Entry(JobPosting posting, int length, Set<String> terms, Set<String> skills) {
+    }
+
+    private record Hit(String id, double score, int experience, JobPosting posting) {
+    }
+}
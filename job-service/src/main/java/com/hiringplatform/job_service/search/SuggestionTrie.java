@@ -0,0 +1,225 @@
+package com.hiringplatform.job_service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prefix index of role and skill terms for autocomplete, ranked by how many postings use each term.
+ * A term is reachable from the start of each of its words, so "dev" suggests "Java Developer".
+ * Every node caches its top suggestions, so a lookup only walks the prefix.
+ * Children are kept in sorted arrays rather than maps to keep the many small nodes compact.
+ */
+public class SuggestionTrie {
+
+    /**
+     * Most suggestions cached per node and returned per lookup.
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Term> RANKING = Comparator.comparingInt((Term term) -> term.count).reversed()
+            .thenComparing(term -> term.key);
+
+    private final Node root = new Node();
+
+    private final Map<String, Term> terms = new HashMap<>();
+
+    /**
+     * Counts one more use of a term, adding it if new.
+     * @param text Role or skill as written in a posting
+     */
+    public synchronized void add(String text) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Term term = terms.get(key);
+        if (term == null) {
+            term = new Term(key, text.trim());
+            terms.put(key, term);
+            for (int start : wordStarts(key)) {
+                insert(key.substring(start), term);
+            }
+        }
+        term.count++;
+        for (int start : wordStarts(key)) {
+            Node node = root;
+            String suffix = key.substring(start);
+            for (int i = 0; i < suffix.length(); i++) {
+                node = node.child(suffix.charAt(i));
+                promote(node, term);
+            }
+        }
+    }
+
+    /**
+     * Counts one less use of a term, dropping it once no posting uses it.
+     * @param text Role or skill as written in a posting
+     */
+    public synchronized void remove(String text) {
+        String key = normalize(text);
+        Term term = terms.get(key);
+        if (term == null) {
+            return;
+        }
+        term.count--;
+        for (int start : wordStarts(key)) {
+            Node node = root;
+            String suffix = key.substring(start);
+            for (int i = 0; i < suffix.length(); i++) {
+                node = node.child(suffix.charAt(i));
+                node.dirty = true;
+            }
+            if (term.count == 0) {
+                node.terminals.remove(term);
+            }
+        }
+        if (term.count == 0) {
+            terms.remove(key);
+        }
+    }
+
+    /**
+     * Returns the most used terms with a word starting with the prefix.
+     * @param prefix Typed prefix, case-insensitive
+     * @param limit Maximum suggestions, capped at MAX_SUGGESTIONS; zero or less returns none
+     * @return Suggestions, most used first
+     */
+    public synchronized List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        refresh(node);
+        return node.top.stream().limit(Math.max(0, Math.min(limit, MAX_SUGGESTIONS))).map(term -> term.display).toList();
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     * @return Term count
+     */
+    public synchronized int size() {
+        return terms.size();
+    }
+
+    private void insert(String suffix, Term term) {
+        Node node = root;
+        for (int i = 0; i < suffix.length(); i++) {
+            node = node.getOrAddChild(suffix.charAt(i));
+        }
+        node.terminals.add(term);
+    }
+
+    /**
+     * Moves a term whose count went up into a node's cached top list. Dirty nodes are rebuilt on read instead.
+     */
+    private static void promote(Node node, Term term) {
+        if (node.dirty) {
+            return;
+        }
+        if (!node.top.contains(term)) {
+            if (node.top.size() == MAX_SUGGESTIONS
+                    && RANKING.compare(term, node.top.get(MAX_SUGGESTIONS - 1)) >= 0) {
+                return;
+            }
+            if (node.top.size() == MAX_SUGGESTIONS) {
+                node.top.remove(MAX_SUGGESTIONS - 1);
+            }
+            node.top.add(term);
+        }
+        node.top.sort(RANKING);
+    }
+
+    /**
+     * Rebuilds the top list of a node invalidated by a removal from its terminals and children's top lists.
+     * Removals mark the whole path dirty, so a clean node never has a dirty descendant.
+     */
+    private static void refresh(Node node) {
+        if (!node.dirty) {
+            return;
+        }
+        Set<Term> candidates = new LinkedHashSet<>(node.terminals);
+        for (Node child : node.children) {
+            refresh(child);
+            candidates.addAll(child.top);
+        }
+        List<Term> top = new ArrayList<>(candidates);
+        top.sort(RANKING);
+        node.top = new ArrayList<>(top.subList(0, Math.min(MAX_SUGGESTIONS, top.size())));
+        node.dirty = false;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != ' ' && (i == 0 || key.charAt(i - 1) == ' ')) {
+                starts.add(i);
+            }
+        }
+        return starts;
+    }
+
+    private static final class Term {
+        private final String key;
+        private final String display;
+        private int count;
+
+        private Term(String key, String display) {
+            this.key = key;
+            this.display = display;
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private List<Term> terminals = new ArrayList<>(1);
+        private List<Term> top = new ArrayList<>(1);
+        private boolean dirty;
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrAddChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node child = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = child;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+    }
+}
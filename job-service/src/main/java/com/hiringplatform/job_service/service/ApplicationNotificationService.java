@@ -0,0 +1,90 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.CandidateProfile;
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.template.EmailTemplates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Composes recruiter notifications for job applications and queues them in the email outbox.
+ * Recruiters in digest mode get one summary email per window instead of one email per application.
+ */
+@Service
+public class ApplicationNotificationService {
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailTemplates emailTemplates;
+
+    @Value("${job.email-digest.enabled:false}")
+    private boolean digestEnabled;
+
+    @Value("${job.email-digest.window-minutes:15}")
+    private long digestWindowMinutes;
+
+    @Value("${job.email-digest.recruiter-ids:}")
+    private Set<String> digestRecruiterIds;
+
+    /**
+     * Queues notification of a new application, as a digest entry if the recruiter uses digest mode.
+     * @param recruiterEmail Recruiter email address
+     * @param profile Applicant's candidate profile
+     * @param job Job posting applied for
+     */
+    public void notifyRecruiter(String recruiterEmail, CandidateProfile profile, JobPosting job) {
+        if (isDigestRecipient(job.getRecruiterId())) {
+            emailOutboxService.enqueueDigestEntry(recruiterEmail, job.getRole(),
+                    emailTemplates.renderApplicationDigestRow(profile, job), nextDigestWindowEnd());
+        } else {
+            emailOutboxService.enqueue(recruiterEmail, "New Application for " + job.getRole(),
+                    emailTemplates.renderApplicationReceived(profile, job));
+        }
+    }
+
+    /**
+     * Builds the subject of a digest email summarising queued entries.
+     * @param entries Digest entries for one recipient
+     * @return Subject line
+     */
+    public String buildDigestSubject(List<EmailOutboxMessage> entries) {
+        return entries.size() == 1
+                ? "New Application for " + entries.get(0).getSubject()
+                : entries.size() + " New Applications on the Hiring Platform";
+    }
+
+    /**
+     * Builds a digest email body listing every queued application.
+     * @param entries Digest entries for one recipient; each body is a table row
+     * @return HTML email body string
+     */
+    public String buildDigestBody(List<EmailOutboxMessage> entries) {
+        return emailTemplates.renderApplicationDigest(entries);
+    }
+
+    private boolean isDigestRecipient(String recruiterId) {
+        if (!digestEnabled) {
+            return false;
+        }
+        return digestRecruiterIds.stream().allMatch(String::isBlank) || digestRecruiterIds.contains(recruiterId);
+    }
+
+    /**
+     * Returns the end of the current digest window; entries in one window share a delivery time.
+     * @return Delivery time for digest entries queued now
+     */
+    private Date nextDigestWindowEnd() {
+        long windowMillis = TimeUnit.MINUTES.toMillis(digestWindowMinutes);
+        long now = System.currentTimeMillis();
+        return new Date((now / windowMillis + 1) * windowMillis);
+    }
+}
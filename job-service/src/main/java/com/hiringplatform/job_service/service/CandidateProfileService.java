@@ -0,0 +1,241 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.client.CandidateServiceClient;
+import com.hiringplatform.job_service.model.CandidateProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Candidate profile lookups that collapse concurrent requests into batch calls to Candidate Service.
+ * The first lookup after a flush opens a short window; every lookup arriving within it, or until the batch
+ * is full, is answered by one call. Concurrent lookups of the same user share a result.
+ * Profiles already fetched are kept locally and served without a remote call for 'job.candidate-cache.fresh-ms';
+ * after that the next lookup revalidates them with If-None-Match, so an unchanged profile costs a 304 with no body.
+ * Concurrent lookups of a stale profile share one revalidation.
+ * Batch sizes are published as the 'job.candidate.batch.size' distribution and the local copies
+ * as 'job.candidate.profiles' cache metrics.
+ */
+@Service
+public class CandidateProfileService {
+
+    @Autowired
+    private CandidateServiceClient candidateServiceClient;
+
+    @Autowired
+    @Qualifier("lookupExecutor")
+    private ExecutorService lookupExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.candidate-batch.window-ms:5}")
+    private long windowMs;
+
+    @Value("${job.candidate-batch.max-size:200}")
+    private int maxSize;
+
+    @Value("${job.candidate-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${job.candidate-cache.fresh-ms:2000}")
+    private long freshMs;
+
+    private final Object lock = new Object();
+
+    private Map<String, CompletableFuture<Optional<CandidateProfile>>> pending = new HashMap<>();
+
+    private ScheduledExecutorService timer;
+
+    private DistributionSummary batchSizes;
+
+    private Cache<String, CachedProfile> profiles;
+
+    private final Map<String, CompletableFuture<Optional<CandidateProfile>>> revalidating = new ConcurrentHashMap<>();
+
+    /**
+     * Local copy of a profile.
+     * @param profile Profile as last returned by Candidate Service
+     * @param validatedAtNanos When Candidate Service last confirmed it, from System.nanoTime
+     */
+    private record CachedProfile(CandidateProfile profile, long validatedAtNanos) {
+    }
+
+    /**
+     * Starts the flush timer, builds the profile cache and registers metrics.
+     */
+    @PostConstruct
+    public void init() {
+        profiles = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "job.candidate.profiles");
+        timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("candidate-batch").daemon().factory());
+        batchSizes = DistributionSummary.builder("job.candidate.batch.size")
+                .description("Candidate profiles requested per batch call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stops the flush timer.
+     */
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Looks up a candidate profile from a fresh local copy, by revalidating a stale one, or by joining the current batch.
+     * @param userId Candidate user ID
+     * @return Future of the profile, empty if the user has none; fails with the remote call's exception.
+     *         Each caller gets its own copy, so a caller's timeout does not affect others waiting on the same user
+     */
+    public CompletableFuture<Optional<CandidateProfile>> getProfile(String userId) {
+        CachedProfile cached = profiles.getIfPresent(userId);
+        if (cached != null) {
+            if (System.nanoTime() - cached.validatedAtNanos() < TimeUnit.MILLISECONDS.toNanos(freshMs)) {
+                return CompletableFuture.completedFuture(Optional.of(cached.profile()));
+            }
+            return revalidateShared(userId, cached.profile());
+        }
+        Map<String, CompletableFuture<Optional<CandidateProfile>>> full = null;
+        CompletableFuture<Optional<CandidateProfile>> future;
+        synchronized (lock) {
+            future = pending.get(userId);
+            if (future != null) {
+                return future.copy();
+            }
+            future = new CompletableFuture<>();
+            pending.put(userId, future);
+            if (pending.size() >= maxSize) {
+                full = pending;
+                pending = new HashMap<>();
+            } else if (pending.size() == 1) {
+                timer.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future.copy();
+    }
+
+    /**
+     * Sends whatever is pending when a window closes.
+     * The batch may already have gone out because it filled up; then this sends a younger one early.
+     */
+    private void flush() {
+        Map<String, CompletableFuture<Optional<CandidateProfile>>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Fetches one batch on a virtual thread and completes its lookups.
+     * @param batch Pending lookups by user ID
+     */
+    private void dispatch(Map<String, CompletableFuture<Optional<CandidateProfile>>> batch) {
+        batchSizes.record(batch.size());
+        lookupExecutor.execute(() -> {
+            try {
+                ResponseEntity<List<CandidateProfile>> response = candidateServiceClient.getProfilesByUserIds(batch.keySet());
+                Map<String, CandidateProfile> byUserId = new HashMap<>();
+                if (response.getBody() != null) {
+                    response.getBody().forEach(profile -> byUserId.put(profile.getUserId(), profile));
+                }
+                long now = System.nanoTime();
+                byUserId.forEach((userId, profile) -> profiles.put(userId, new CachedProfile(profile, now)));
+                batch.forEach((userId, future) -> future.complete(Optional.ofNullable(byUserId.get(userId))));
+            } catch (RuntimeException e) {
+                batch.values().forEach(future -> future.completeExceptionally(e));
+            }
+        });
+    }
+
+    /**
+     * Revalidates a stale local copy on a virtual thread, sharing the call with concurrent lookups of the same user.
+     * @param userId Candidate user ID
+     * @param cached Stale local copy
+     * @return Caller's copy of the shared revalidation
+     */
+    private CompletableFuture<Optional<CandidateProfile>> revalidateShared(String userId, CandidateProfile cached) {
+        CompletableFuture<Optional<CandidateProfile>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<CandidateProfile>> inFlight = revalidating.putIfAbsent(userId, future);
+        if (inFlight != null) {
+            return inFlight.copy();
+        }
+        lookupExecutor.execute(() -> {
+            try {
+                future.complete(revalidate(userId, cached));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                revalidating.remove(userId, future);
+            }
+        });
+        return future.copy();
+    }
+
+    /**
+     * Fetches a profile only if it changed since the local copy was taken.
+     * @param userId Candidate user ID
+     * @param cached Local copy
+     * @return Current profile, or empty if it was deleted
+     */
+    private Optional<CandidateProfile> revalidate(String userId, CandidateProfile cached) {
+        try {
+            CandidateProfile current = candidateServiceClient.revalidateProfileByUserId(userId, eTagOf(cached)).getBody();
+            if (current == null) {
+                throw new IllegalStateException("Candidate service returned no profile body.");
+            }
+            profiles.put(userId, new CachedProfile(current, System.nanoTime()));
+            return Optional.of(current);
+        } catch (FeignException.NotFound e) {
+            profiles.invalidate(userId);
+            return Optional.empty();
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value()) {
+                profiles.put(userId, new CachedProfile(cached, System.nanoTime()));
+                return Optional.of(cached);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the ETag Candidate Service sends for a profile: its ID and version, quoted.
+     */
+    private static String eTagOf(CandidateProfile profile) {
+        return "\"" + profile.getId() + "-" + profile.getVersion() + "\"";
+    }
+}
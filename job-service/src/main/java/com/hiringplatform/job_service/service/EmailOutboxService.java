@@ -0,0 +1,181 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import com.hiringplatform.job_service.model.EmailOutboxMessage.Status;
+import com.hiringplatform.job_service.repository.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Durable outbox for notification emails backed by the 'EmailOutbox' collection.
+ * Messages are claimed with a lease so several job-service instances can drain it safely.
+ */
+@Service
+public class EmailOutboxService {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${job.email-outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${job.email-outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${job.email-outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${job.email-outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    /**
+     * Persists an email for asynchronous delivery.
+     * @param to Recipient email address
+     * @param subject Email subject line
+     * @param body Email body content (HTML supported)
+     * @return Saved outbox message
+     */
+    public EmailOutboxMessage enqueue(String to, String subject, String body) {
+        Date now = new Date();
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setStatus(Status.PENDING);
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+        return emailOutboxRepository.save(message);
+    }
+
+    /**
+     * Persists one entry of a recipient's digest, delivered together with the other entries due at the same time.
+     * @param to Recipient email address
+     * @param subject Short description of the entry, used when the digest holds a single entry
+     * @param bodyFragment HTML fragment listed in the digest body
+     * @param deliverAt End of the digest window
+     * @return Saved outbox message
+     */
+    public EmailOutboxMessage enqueueDigestEntry(String to, String subject, String bodyFragment, Date deliverAt) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setBody(bodyFragment);
+        message.setDigest(true);
+        message.setStatus(Status.PENDING);
+        message.setCreatedAt(new Date());
+        message.setNextAttemptAt(deliverAt);
+        return emailOutboxRepository.save(message);
+    }
+
+    /**
+     * Claims up to limit due messages, including ones whose previous claim lease expired.
+     * @param limit Maximum number of messages to claim
+     * @return Claimed messages, now in SENDING state
+     */
+    public List<EmailOutboxMessage> claimDue(int limit) {
+        Date now = new Date();
+        Criteria due = new Criteria().orOperator(
+                Criteria.where("status").is(Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(Status.SENDING).and("lockedUntil").lt(now));
+        Query candidates = new Query(due).with(Sort.by("nextAttemptAt")).limit(limit);
+        candidates.fields().include("_id");
+        List<String> ids = mongoTemplate.find(candidates, EmailOutboxMessage.class).stream()
+                .map(EmailOutboxMessage::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                new Query(new Criteria().andOperator(Criteria.where("_id").in(ids), due)),
+                new Update().set("status", Status.SENDING)
+                        .set("claimToken", claimToken)
+                        .set("lockedUntil", new Date(now.getTime() + leaseSeconds * 1000)),
+                EmailOutboxMessage.class);
+        return emailOutboxRepository.findByClaimToken(claimToken);
+    }
+
+    /**
+     * Marks messages as delivered, unless another poll has reclaimed them since.
+     * @param claimToken Token of the claim the messages were delivered under
+     * @param ids Delivered message IDs
+     */
+    public void markSent(String claimToken, Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(ids).and("claimToken").is(claimToken)),
+                new Update().set("status", Status.SENT)
+                        .set("sentAt", new Date())
+                        .unset("claimToken")
+                        .unset("lockedUntil"),
+                EmailOutboxMessage.class);
+    }
+
+    /**
+     * Records a failed delivery, rescheduling with exponential backoff or giving up after max attempts.
+     * Ignored if another poll has reclaimed the message since.
+     * @param message Message that failed, as claimed
+     * @param error Delivery error
+     * @return True if the message will be retried
+     */
+    public boolean markFailed(EmailOutboxMessage message, Exception error) {
+        int attempts = message.getAttempts() + 1;
+        boolean retry = attempts < maxAttempts;
+        long delaySeconds = backoffSeconds(attempts);
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(message.getId()).and("claimToken").is(message.getClaimToken())),
+                new Update().set("status", retry ? Status.PENDING : Status.FAILED)
+                        .set("attempts", attempts)
+                        .set("nextAttemptAt", new Date(System.currentTimeMillis() + delaySeconds * 1000))
+                        .set("lastError", String.valueOf(error.getMessage()))
+                        .unset("claimToken")
+                        .unset("lockedUntil"),
+                EmailOutboxMessage.class);
+        return retry;
+    }
+
+    /**
+     * Returns the delay before a retry after the given number of failed attempts.
+     * @param attempts Failed attempts so far, at least 1
+     * @return Delay in seconds, doubling per attempt up to the configured maximum
+     */
+    long backoffSeconds(int attempts) {
+        return Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+    }
+
+    /**
+     * Counts messages due for delivery now.
+     * Digest entries whose window has not closed and messages backing off are not counted.
+     * @return Due message count
+     */
+    public long countDue() {
+        return emailOutboxRepository.countByStatusAndNextAttemptAtLessThanEqual(Status.PENDING, new Date());
+    }
+
+    /**
+     * Returns when the longest-waiting due message became due.
+     * @return Optional containing the due time if any message is due
+     */
+    public Optional<Date> oldestDueAt() {
+        return emailOutboxRepository.findFirstByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                        Status.PENDING, new Date())
+                .map(EmailOutboxMessage::getNextAttemptAt);
+    }
+}
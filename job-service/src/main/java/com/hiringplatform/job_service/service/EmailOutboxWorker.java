@@ -0,0 +1,198 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the email outbox on a fixed delay using a bounded sender pool.
+ * Messages for the same recipient are sent together over one SMTP connection,
+ * and that recipient's due digest entries are merged into a single summary email.
+ * Publishes 'job.email.outbox.depth', 'job.email.outbox.lag' and delivery counters.
+ */
+@Component
+@ConditionalOnProperty(name = "job.email-outbox.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxWorker.class);
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ApplicationNotificationService applicationNotificationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.email-outbox.worker.threads:4}")
+    private int threads;
+
+    @Value("${job.email-outbox.batch-size:100}")
+    private int batchSize;
+
+    private ExecutorService senders;
+
+    private final AtomicLong depth = new AtomicLong();
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private Counter sentCounter;
+
+    private Counter failedCounter;
+
+    /**
+     * Creates the sender pool and registers outbox metrics.
+     */
+    @PostConstruct
+    public void init() {
+        senders = Executors.newFixedThreadPool(threads);
+        Gauge.builder("job.email.outbox.depth", depth, AtomicLong::get)
+                .description("Emails due for delivery")
+                .register(meterRegistry);
+        Gauge.builder("job.email.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("How long the longest-waiting due email has been overdue")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        sentCounter = meterRegistry.counter("job.email.outbox.sent");
+        failedCounter = meterRegistry.counter("job.email.outbox.failures");
+    }
+
+    /**
+     * Stops the sender pool; unfinished messages are reclaimed after their lease expires.
+     */
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+
+    /**
+     * Claims due messages and delivers them grouped by recipient.
+     */
+    @Scheduled(fixedDelayString = "${job.email-outbox.poll-interval-ms:2000}")
+    public void drain() {
+        try {
+            List<EmailOutboxMessage> claimed = emailOutboxService.claimDue(batchSize);
+            if (!claimed.isEmpty()) {
+                Map<String, List<EmailOutboxMessage>> byRecipient = claimed.stream()
+                        .collect(Collectors.groupingBy(message -> Objects.toString(message.getTo(), "")));
+                List<Callable<Void>> deliveries = new ArrayList<>();
+                byRecipient.values().forEach(batch -> deliveries.add(() -> {
+                    try {
+                        deliver(batch);
+                    } catch (RuntimeException e) {
+                        log.warn("Email delivery to {} failed; messages are retried when their lease expires: {}",
+                                batch.get(0).getTo(), e.getMessage());
+                    }
+                    return null;
+                }));
+                senders.invokeAll(deliveries);
+            }
+            depth.set(emailOutboxService.countDue());
+            lagSeconds.set(emailOutboxService.oldestDueAt()
+                    .map(dueAt -> Math.max(0, (System.currentTimeMillis() - dueAt.getTime()) / 1000))
+                    .orElse(0L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Email outbox poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one recipient's messages and records the outcome of each.
+     * @param batch Claimed messages for a single recipient
+     */
+    private void deliver(List<EmailOutboxMessage> batch) {
+        Map<MimeMessage, List<EmailOutboxMessage>> byMime = new IdentityHashMap<>();
+        List<EmailOutboxMessage> digestEntries = new ArrayList<>();
+        for (EmailOutboxMessage message : batch) {
+            if (message.isDigest()) {
+                digestEntries.add(message);
+            } else {
+                compose(byMime, List.of(message),
+                        () -> emailService.createMessage(message.getTo(), message.getSubject(), message.getBody()));
+            }
+        }
+        if (!digestEntries.isEmpty()) {
+            compose(byMime, digestEntries, () -> emailService.createMessage(digestEntries.get(0).getTo(),
+                    applicationNotificationService.buildDigestSubject(digestEntries),
+                    applicationNotificationService.buildDigestBody(digestEntries)));
+        }
+        if (byMime.isEmpty()) {
+            return;
+        }
+        Map<MimeMessage, Exception> failures = emailService.sendAll(new ArrayList<>(byMime.keySet()));
+        List<String> sentIds = new ArrayList<>();
+        byMime.forEach((mime, messages) -> {
+            Exception failure = failures.get(mime);
+            for (EmailOutboxMessage message : messages) {
+                if (failure == null) {
+                    sentIds.add(message.getId());
+                } else {
+                    recordFailure(message, failure);
+                }
+            }
+        });
+        emailOutboxService.markSent(batch.get(0).getClaimToken(), sentIds);
+        sentCounter.increment(sentIds.size());
+    }
+
+    /**
+     * Builds the MIME message for one or more outbox messages, recording failures for invalid ones.
+     * Any exception while building, such as a missing address or a rendering error, counts as a failed
+     * attempt so a poison message reaches FAILED instead of being reclaimed forever.
+     * @param byMime Collected MIME messages and the outbox messages each one delivers
+     * @param messages Outbox messages delivered by this email
+     * @param composer Builds the email
+     */
+    private void compose(Map<MimeMessage, List<EmailOutboxMessage>> byMime, List<EmailOutboxMessage> messages,
+                         MimeComposer composer) {
+        try {
+            byMime.put(composer.compose(), messages);
+        } catch (MessagingException | RuntimeException e) {
+            messages.forEach(message -> recordFailure(message, e));
+        }
+    }
+
+    private void recordFailure(EmailOutboxMessage message, Exception error) {
+        failedCounter.increment();
+        boolean retrying = emailOutboxService.markFailed(message, error);
+        log.warn("Email {} to {} failed (attempt {}, {}): {}", message.getId(), message.getTo(),
+                message.getAttempts() + 1, retrying ? "will retry" : "giving up", error.getMessage());
+    }
+
+    /**
+     * Builds one email.
+     */
+    @FunctionalInterface
+    private interface MimeComposer {
+        MimeMessage compose() throws MessagingException;
+    }
+}
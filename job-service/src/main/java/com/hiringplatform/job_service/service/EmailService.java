@@ -4,10 +4,16 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Email service for sending application notifications.
  * Uses JavaMailSender configured through Spring Boot Mail starter.
@@ -22,21 +28,40 @@ public class EmailService {
     private String fromEmailAddress;
 
     /**
-     * Sends email using configured mail sender.
+     * Builds an HTML email ready for sending.
      * @param to Recipient email address
      * @param subject Email subject line
      * @param body Email body content (HTML supported)
+     * @return MIME message
+     * @throws MessagingException if an address or header is invalid
+     */
+    public MimeMessage createMessage(String to, String subject, String body) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setFrom(fromEmailAddress);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body, true);
+        return message;
+    }
+
+    /**
+     * Sends messages over a single SMTP connection.
+     * @param messages Messages to send
+     * @return Failed messages mapped to their cause; empty if all were sent
      */
-    public void sendEmail(String to, String subject, String body) {
+    public Map<MimeMessage, Exception> sendAll(List<MimeMessage> messages) {
+        Map<MimeMessage, Exception> failures = new IdentityHashMap<>();
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-            helper.setFrom(fromEmailAddress);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> failures.put((MimeMessage) message, cause));
+            if (failures.isEmpty()) {
+                messages.forEach(message -> failures.put(message, e));
+            }
+        } catch (MailException e) {
+            messages.forEach(message -> failures.put(message, e));
         }
+        return failures;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.JobApplication;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.repository.JobApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records job applications and lists them for candidates and recruiters.
+ * An application is recorded before any remote work so a repeated apply stops at the unique index.
+ */
+@Service
+public class JobApplicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobApplicationService.class);
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    /**
+     * Records a candidate's application to a job.
+     * @param job Job posting applied for
+     * @param userId Candidate user ID
+     * @return Saved application, or empty if the candidate has already applied
+     */
+    public Optional<JobApplication> record(JobPosting job, String userId) {
+        JobApplication application = new JobApplication();
+        application.setJobId(job.getId());
+        application.setUserId(userId);
+        application.setRecruiterId(job.getRecruiterId());
+        application.setJobRole(job.getRole());
+        application.setAppliedAt(new Date());
+        try {
+            return Optional.of(jobApplicationRepository.insert(application));
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Removes an application whose processing failed, so the candidate can apply again.
+     * Called while already handling a failure, so a database error is logged rather than thrown;
+     * the application then stays recorded without a notification and needs manual cleanup.
+     * @param application Recorded application
+     * @return True if the application was removed
+     */
+    public boolean withdraw(JobApplication application) {
+        try {
+            jobApplicationRepository.deleteById(application.getId());
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Could not withdraw application {} of user {} to job {}; it stays recorded without a notification: {}",
+                    application.getId(), application.getUserId(), application.getJobId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Lists a candidate's applications newest first.
+     * @param userId Candidate user ID
+     * @param before ID of the last application on the previous page, or null
+     * @param pageSize Page size
+     * @return Applications in the page
+     */
+    public List<JobApplication> listForCandidate(String userId, String before, int pageSize) {
+        Pageable page = newestFirst(pageSize);
+        return before == null
+                ? jobApplicationRepository.findByUserId(userId, page)
+                : jobApplicationRepository.findByUserIdAndIdLessThan(userId, before, page);
+    }
+
+    /**
+     * Lists applications to a recruiter's postings newest first.
+     * @param recruiterId Recruiter user ID
+     * @param before ID of the last application on the previous page, or null
+     * @param pageSize Page size
+     * @return Applications in the page
+     */
+    public List<JobApplication> listForRecruiter(String recruiterId, String before, int pageSize) {
+        Pageable page = newestFirst(pageSize);
+        return before == null
+                ? jobApplicationRepository.findByRecruiterId(recruiterId, page)
+                : jobApplicationRepository.findByRecruiterIdAndIdLessThan(recruiterId, before, page);
+    }
+
+    private static Pageable newestFirst(int pageSize) {
+        return PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+    }
+}
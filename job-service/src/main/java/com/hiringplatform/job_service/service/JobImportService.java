@@ -0,0 +1,285 @@
+package com.hiringplatform.job_service.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hiringplatform.job_service.dto.UserDTO;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.mongodb.bulk.BulkWriteError;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Bulk import of job postings from newline-delimited JSON.
+ * Lines are parsed and validated one at a time and written in unordered bulk inserts of the configured size,
+ * so memory stays bounded by one batch however large the upload is.
+ * Publishes 'job.import.postings' counters tagged by result.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    private static final String RECRUITER_ROLE = "RECRUITER";
+
+    private static final int EOF = -1;
+
+    private static final int OK = 0;
+
+    private static final int TOO_LONG = 1;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RecruiterContactService recruiterContactService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.import.max-line-chars:65536}")
+    private int maxLineChars;
+
+    private ObjectReader postingReader;
+
+    private Counter insertedCounter;
+
+    private Counter failedCounter;
+
+    /**
+     * Outcome of one imported line.
+     * @param line 1-based line number in the upload
+     * @param status 'inserted' or 'failed'
+     * @param id Assigned posting ID when inserted
+     * @param error Reason when failed
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ItemResult(long line, String status, String id, String error) {
+
+        static ItemResult inserted(long line, String id) {
+            return new ItemResult(line, "inserted", id, null);
+        }
+
+        static ItemResult failed(long line, String error) {
+            return new ItemResult(line, "failed", null, error);
+        }
+    }
+
+    /**
+     * Totals for a whole import.
+     * @param received Non-blank lines read
+     * @param inserted Postings written
+     * @param failed Lines rejected or not written
+     * @param elapsedMs Wall-clock duration of the import
+     * @param postingsPerSecond Inserted postings per second of elapsed time
+     */
+    public record Summary(long received, long inserted, long failed, long elapsedMs, double postingsPerSecond) {
+    }
+
+    /**
+     * Prepares the posting reader and registers import metrics.
+     */
+    @PostConstruct
+    public void init() {
+        postingReader = objectMapper.readerFor(JobPosting.class);
+        insertedCounter = Counter.builder("job.import.postings").tag("result", "inserted")
+                .description("Job postings written by bulk import")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("job.import.postings").tag("result", "failed")
+                .description("Job postings rejected by bulk import")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Imports every posting in an NDJSON stream, reporting each line's outcome as soon as it is known.
+     * Invalid lines are reported immediately; valid ones once their batch has been written.
+     * @param body NDJSON request body, one posting per line
+     * @param results Receives one result per non-blank line
+     * @return Import totals
+     * @throws IOException if the body cannot be read
+     */
+    public Summary importPostings(InputStream body, Consumer<ItemResult> results) throws IOException {
+        long started = System.nanoTime();
+        long[] counts = new long[3];
+        Consumer<ItemResult> counting = result -> {
+            counts["inserted".equals(result.status()) ? 1 : 2]++;
+            results.accept(result);
+        };
+        List<Pending> batch = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        int status;
+        while ((status = readLine(reader, line)) != EOF) {
+            lineNumber++;
+            if (status == TOO_LONG) {
+                counts[0]++;
+                counting.accept(ItemResult.failed(lineNumber, "Line exceeds " + maxLineChars + " characters."));
+                continue;
+            }
+            String json = line.toString();
+            if (json.isBlank()) {
+                continue;
+            }
+            counts[0]++;
+            JobPosting posting;
+            try {
+                posting = postingReader.readValue(json);
+            } catch (JsonProcessingException e) {
+                counting.accept(ItemResult.failed(lineNumber, "Malformed job posting JSON."));
+                continue;
+            }
+            Optional<String> error = validateRecruiter(posting.getRecruiterId());
+            if (error.isPresent()) {
+                counting.accept(ItemResult.failed(lineNumber, error.get()));
+                continue;
+            }
+            posting.setId(new ObjectId().toHexString());
+            posting.setVersion(0);
+            batch.add(new Pending(lineNumber, posting));
+            if (batch.size() == batchSize) {
+                write(batch, counting);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch, counting);
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        Summary summary = new Summary(counts[0], counts[1], counts[2], elapsedMs, counts[1] * 1000.0 / elapsedMs);
+        insertedCounter.increment(summary.inserted());
+        failedCounter.increment(summary.failed());
+        log.info("Imported {} of {} job postings in {} ms ({} postings/s)", summary.inserted(), summary.received(),
+                elapsedMs, Math.round(summary.postingsPerSecond()));
+        return summary;
+    }
+
+    /**
+     * Checks that a posting names an existing recruiter, using the recruiter contact cache.
+     * @param recruiterId Recruiter user ID
+     * @return Rejection reason, or empty if valid
+     */
+    private Optional<String> validateRecruiter(String recruiterId) {
+        if (recruiterId == null || recruiterId.isBlank()) {
+            return Optional.of("recruiterId is required.");
+        }
+        try {
+            Optional<UserDTO> recruiter = recruiterContactService.getRecruiter(recruiterId);
+            if (recruiter.isEmpty() || !RECRUITER_ROLE.equals(recruiter.get().getRole())) {
+                return Optional.of("recruiterId does not belong to a recruiter.");
+            }
+            return Optional.empty();
+        } catch (FeignException | IllegalStateException e) {
+            return Optional.of("Could not verify recruiter.");
+        }
+    }
+
+    /**
+     * Inserts one batch without ordering, so a bad document does not stop the rest.
+     * Save events are published for written postings even when part of the batch fails.
+     * @param batch Validated postings with assigned IDs
+     * @param results Receives each posting's outcome
+     */
+    private void write(List<Pending> batch, Consumer<ItemResult> results) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobPosting.class);
+        batch.forEach(pending -> bulk.insert(pending.posting()));
+        Map<Integer, String> errors = new HashMap<>();
+        boolean partial = false;
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            partial = true;
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Bulk import batch of {} failed: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> results.accept(ItemResult.failed(pending.line(), "Write failed.")));
+            return;
+        }
+        String collection = mongoTemplate.getCollectionName(JobPosting.class);
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            String error = errors.get(i);
+            if (error != null) {
+                results.accept(ItemResult.failed(pending.line(), error));
+                continue;
+            }
+            if (partial) {
+                eventPublisher.publishEvent(new AfterSaveEvent<>(pending.posting(),
+                        new Document("_id", new ObjectId(pending.posting().getId())), collection));
+            }
+            results.accept(ItemResult.inserted(pending.line(), pending.posting().getId()));
+        }
+    }
+
+    /**
+     * Reads the next line into the buffer, discarding the rest of any line longer than the limit.
+     * @param reader Body reader
+     * @param line Buffer, cleared first
+     * @return OK, TOO_LONG, or EOF when no characters remain
+     * @throws IOException if the body cannot be read
+     */
+    private int readLine(BufferedReader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return EOF;
+        }
+        boolean tooLong = false;
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                if (line.length() < maxLineChars) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            c = reader.read();
+        }
+        return tooLong ? TOO_LONG : OK;
+    }
+
+    /**
+     * Posting waiting in the current batch with the line it came from.
+     */
+    private record Pending(long line, JobPosting posting) {
+    }
+}
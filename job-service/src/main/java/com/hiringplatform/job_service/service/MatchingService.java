@@ -0,0 +1,195 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.client.CandidateServiceClient;
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.matching.SkillMatchEngine;
+import com.hiringplatform.job_service.model.CandidateProfile;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.repository.JobPostingRepository;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Skill-based matching of candidates to job postings.
+ * Postings are kept current from save and delete events; candidate profiles belong to candidate-service,
+ * so they are reloaded page by page through its API on a schedule, and the requesting
+ * candidate's profile is checked through CandidateProfileService before each ranking so edits apply at once.
+ * A candidate is re-indexed only when its profile version changed.
+ */
+@Service
+public class MatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchingService.class);
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private CandidateServiceClient candidateServiceClient;
+
+    @Autowired
+    private CandidateProfileService candidateProfileService;
+
+    @Value("${job.matching.candidate-page-size:500}")
+    private int candidatePageSize;
+
+    private final SkillMatchEngine engine = new SkillMatchEngine();
+
+    private final Map<String, Long> indexedVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Ranks the job postings that best fit a candidate, using the candidate's current profile.
+     * If candidate-service cannot be reached, an already indexed candidate is ranked as last loaded.
+     * @param userId Candidate user ID
+     * @param limit Maximum number of matches
+     * @return Best postings first, or empty if the candidate has no profile
+     * @throws FeignException if candidate-service fails for a candidate not yet loaded
+     */
+    public Optional<List<SkillMatchEngine.Match>> matchJobsForCandidate(String userId, int limit) {
+        Optional<CandidateProfile> profile;
+        try {
+            profile = fetchCandidate(userId);
+        } catch (FeignException | CompletionException e) {
+            if (!engine.hasCandidate(userId)) {
+                throw e;
+            }
+            log.warn("Could not revalidate candidate {}; ranking the indexed profile: {}", userId, e.getMessage());
+            return Optional.of(engine.topPostingsForCandidate(userId, limit));
+        }
+        if (profile.isEmpty()) {
+            engine.removeCandidate(userId);
+            indexedVersions.remove(userId);
+            return Optional.empty();
+        }
+        index(profile.get());
+        return Optional.of(engine.topPostingsForCandidate(userId, limit));
+    }
+
+    /**
+     * Ranks the loaded candidates that best fit a job posting.
+     * @param postingId Job posting ID
+     * @param limit Maximum number of matches
+     * @return Best candidates first
+     */
+    public List<SkillMatchEngine.Match> matchCandidatesForJob(String postingId, int limit) {
+        return engine.topCandidatesForPosting(postingId, limit);
+    }
+
+    /**
+     * Loads postings and candidates once the application has started, without delaying startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("matching-loader").start(() -> {
+            try (Stream<JobPostingSummary> postings = jobPostingRepository.streamAllByOrderByIdAsc(JobPostingSummary.class)) {
+                postings.forEach(posting ->
+                        engine.putPosting(posting.getId(), posting.getSkillSet(), posting.getExperience()));
+                log.info("Loaded {} job postings for matching", engine.postingCount());
+            } catch (RuntimeException e) {
+                log.warn("Could not load job postings for matching: {}", e.getMessage());
+            }
+            refreshCandidates();
+        });
+    }
+
+    /**
+     * Reloads every candidate profile from candidate-service, dropping candidates whose profile was deleted.
+     * If a page cannot be fetched, the candidates loaded so far are kept and nothing is dropped.
+     */
+    @Scheduled(fixedDelayString = "${job.matching.candidate-refresh-ms:300000}",
+            initialDelayString = "${job.matching.candidate-refresh-ms:300000}")
+    public void refreshCandidates() {
+        Set<String> seen = new HashSet<>();
+        String after = null;
+        try {
+            do {
+                ResponseEntity<List<CandidateProfile>> page = candidateServiceClient.getProfiles(after, candidatePageSize);
+                List<CandidateProfile> profiles = page.getBody() != null ? page.getBody() : List.of();
+                for (CandidateProfile profile : profiles) {
+                    engine.putCandidate(profile.getUserId(), profile.getSkills(), profile.getTotalExperience());
+                    indexedVersions.put(profile.getUserId(), profile.getVersion());
+                    seen.add(profile.getUserId());
+                }
+                after = page.getHeaders().getFirst(NEXT_CURSOR_HEADER);
+            } while (after != null);
+        } catch (RuntimeException e) {
+            log.warn("Could not load candidates for matching: {}", e.getMessage());
+            return;
+        }
+        engine.retainCandidates(seen);
+        indexedVersions.keySet().retainAll(seen);
+        log.info("Loaded {} candidates for matching", engine.candidateCount());
+    }
+
+    /**
+     * Indexes a saved posting.
+     * @param event MongoDB after-save event
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof JobPosting posting) {
+            engine.putPosting(posting.getId(), posting.getSkillSet(), posting.getExperience());
+        }
+    }
+
+    /**
+     * Removes a deleted posting.
+     * @param event MongoDB after-delete event carrying the delete query
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (JobPosting.class.equals(event.getType()) && event.getSource().get("_id") != null) {
+            engine.removePosting(event.getSource().get("_id").toString());
+        }
+    }
+
+    /**
+     * Fetches a candidate's current profile through the local, revalidated copy in CandidateProfileService.
+     * @param userId Candidate user ID
+     * @return Current profile, or empty if the candidate has none
+     */
+    private Optional<CandidateProfile> fetchCandidate(String userId) {
+        try {
+            return candidateProfileService.getProfile(userId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FeignException feignException) {
+                throw feignException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Indexes a candidate unless the same profile version is already indexed.
+     * @param profile Current candidate profile
+     */
+    private void index(CandidateProfile profile) {
+        Long indexed = indexedVersions.get(profile.getUserId());
+        if (indexed != null && indexed == profile.getVersion() && engine.hasCandidate(profile.getUserId())) {
+            return;
+        }
+        engine.putCandidate(profile.getUserId(), profile.getSkills(), profile.getTotalExperience());
+        indexedVersions.put(profile.getUserId(), profile.getVersion());
+    }
+}
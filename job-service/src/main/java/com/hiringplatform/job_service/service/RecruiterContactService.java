@@ -0,0 +1,98 @@
+package com.hiringplatform.job_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hiringplatform.job_service.client.AuthServiceClient;
+import com.hiringplatform.job_service.dto.UserDTO;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Local cache of recruiter contact details fetched from Auth Service.
+ * Unknown recruiters (404) are cached briefly as absent; other Feign failures are never cached.
+ * Hit rate is published as 'job.recruiter.contacts' cache metrics.
+ */
+@Service
+public class RecruiterContactService {
+
+    @Autowired
+    private AuthServiceClient authServiceClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.recruiter-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${job.recruiter-cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${job.recruiter-cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    private Cache<String, Optional<UserDTO>> cache;
+
+    /**
+     * Builds the contact cache once configuration is injected.
+     */
+    @PostConstruct
+    public void init() {
+        long ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<UserDTO>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<UserDTO> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<UserDTO> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<UserDTO> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "job.recruiter.contacts");
+    }
+
+    /**
+     * Returns recruiter details, calling Auth Service only on a cache miss.
+     * @param recruiterId Recruiter user ID
+     * @return Recruiter details, or empty if Auth Service reports the user does not exist
+     * @throws FeignException if Auth Service cannot be reached or fails
+     * @throws IllegalStateException if Auth Service answers without a user body
+     */
+    public Optional<UserDTO> getRecruiter(String recruiterId) {
+        return cache.get(recruiterId, this::fetchRecruiter);
+    }
+
+    private Optional<UserDTO> fetchRecruiter(String recruiterId) {
+        try {
+            ResponseEntity<UserDTO> response = authServiceClient.getUserById(recruiterId);
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+                throw new IllegalStateException("Could not retrieve recruiter details (Status: " + response.getStatusCode() + ")");
+            }
+            return Optional.of(response.getBody());
+        } catch (FeignException.NotFound ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.hiringplatform.job_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
+import com.hiringplatform.job_service.model.JobPosting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of job search result pages keyed by the normalized query.
+ * Keys carry a catalog version that is bumped whenever a posting is saved or deleted here,
+ * so new postings show up immediately; the TTL bounds staleness from writes on other instances.
+ * Hit rate is published as 'job.search.results' cache metrics and the 'job.search.results.hit.ratio' gauge.
+ */
+@Service
+public class SearchResultCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${job.search-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${job.search-cache.max-size:1000}")
+    private long maxSize;
+
+    @Value("${job.search-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    private Cache<Key, JobSearchResult<?>> cache;
+
+    /**
+     * Builds the result cache once configuration is injected.
+     */
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "job.search.results");
+        Gauge.builder("job.search.results.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Fraction of job searches answered from the result cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a cached result page, running the search only on a miss.
+     * @param query Search query
+     * @param summary Whether the results are summary projections
+     * @param search Runs the search
+     * @param <T> Result type
+     * @return Result page
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JobSearchResult<T> get(JobSearchQuery query, boolean summary, Supplier<JobSearchResult<T>> search) {
+        if (!enabled) {
+            return search.get();
+        }
+        return (JobSearchResult<T>) cache.get(Key.of(query, summary, catalogVersion.get()), key -> search.get());
+    }
+
+    /**
+     * Moves to a new catalog version after a posting is saved.
+     * @param event MongoDB after-save event
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof JobPosting) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Moves to a new catalog version after a posting is deleted.
+     * @param event MongoDB after-delete event
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (JobPosting.class.equals(event.getType())) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Normalized search query. Text is lower-cased with whitespace collapsed and skills are sorted,
+     * so equivalent requests share one entry.
+     */
+    private record Key(String text, JobSearchQuery.SortMode sort, int offset, String searchAfter, int pageSize,
+                       Integer minExperience, Integer maxExperience, List<String> skills, boolean summary,
+                       long version) {
+
+        static Key of(JobSearchQuery query, boolean summary, long version) {
+            String text = query.getText() == null ? ""
+                    : query.getText().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            List<String> skills = query.getSkills().stream()
+                    .map(skill -> skill.trim().toLowerCase(Locale.ROOT))
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return new Key(text, query.getSort(), query.getOffset(), query.getSearchAfter(), query.getPageSize(),
+                    query.getMinExperience(), query.getMaxExperience(), skills, summary, version);
+        }
+    }
+}
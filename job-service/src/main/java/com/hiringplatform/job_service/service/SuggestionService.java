@@ -0,0 +1,107 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.dto.JobPostingSummary;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.repository.JobPostingRepository;
+import com.hiringplatform.job_service.search.SuggestionTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Autocomplete of job roles and skills from an in-memory trie.
+ * Loaded from MongoDB at startup and updated from posting save and delete events; lookups never query MongoDB.
+ */
+@Service
+public class SuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionService.class);
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+
+    // Terms counted for each posting, so a re-saved posting replaces its old terms
+    private final Map<String, List<String>> termsByPosting = new ConcurrentHashMap<>();
+
+    /**
+     * Returns roles and skills with a word starting with the prefix, most used first.
+     * @param prefix Typed prefix
+     * @param limit Maximum number of suggestions
+     * @return Suggestions
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, limit);
+    }
+
+    /**
+     * Loads terms from every stored posting once the application has started, without delaying startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("suggestion-loader").start(this::loadTerms);
+    }
+
+    private void loadTerms() {
+        try (Stream<JobPostingSummary> postings = jobPostingRepository.streamAllByOrderByIdAsc(JobPostingSummary.class)) {
+            postings.forEach(posting -> index(posting.getId(), posting.getRole(), posting.getSkillSet()));
+            log.info("Loaded {} autocomplete terms", trie.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load autocomplete terms: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Counts the terms of a saved posting.
+     * @param event MongoDB after-save event
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof JobPosting posting) {
+            index(posting.getId(), posting.getRole(), posting.getSkillSet());
+        }
+    }
+
+    /**
+     * Uncounts the terms of a deleted posting.
+     * @param event MongoDB after-delete event carrying the delete query
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        if (JobPosting.class.equals(event.getType()) && event.getSource().get("_id") != null) {
+            List<String> previous = termsByPosting.remove(event.getSource().get("_id").toString());
+            if (previous != null) {
+                previous.forEach(trie::remove);
+            }
+        }
+    }
+
+    private void index(String postingId, String role, List<String> skills) {
+        List<String> terms = new ArrayList<>();
+        if (role != null) {
+            terms.add(role);
+        }
+        if (skills != null) {
+            skills.stream().filter(skill -> skill != null).distinct().forEach(terms::add);
+        }
+        termsByPosting.compute(postingId, (id, previous) -> {
+            if (previous != null) {
+                previous.forEach(trie::remove);
+            }
+            terms.forEach(trie::add);
+            return terms;
+        });
+    }
+}
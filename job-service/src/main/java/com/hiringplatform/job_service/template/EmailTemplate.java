@@ -0,0 +1,271 @@
+package com.hiringplatform.job_service.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Email template compiled once into a flat list of literal, field and section-jump instructions.
+ * Supports a small mustache subset: {{field}} (HTML-escaped), {{{field}}} (raw),
+ * {{#field}}...{{/field}} and {{^field}}...{{/field}} (shown when field is non-empty / empty).
+ * Rendering reuses a per-thread buffer and escapes each value in a single pass.
+ * @param <T> Model type the template renders
+ */
+public final class EmailTemplate<T> {
+
+    private static final byte LITERAL = 0;
+    private static final byte ESCAPED = 1;
+    private static final byte RAW = 2;
+    private static final byte SECTION = 3;
+    private static final byte INVERTED_SECTION = 4;
+
+    private static final int INITIAL_BUFFER_CAPACITY = 4096;
+
+    private static final int MAX_POOLED_BUFFER_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_CAPACITY));
+
+    private final byte[] ops;
+    private final String[] literals;
+    private final Function<T, ?>[] accessors;
+    // For section instructions, the index of the first instruction after the section
+    private final int[] sectionEnds;
+
+    private EmailTemplate(List<Instruction<T>> instructions) {
+        int size = instructions.size();
+        this.ops = new byte[size];
+        this.literals = new String[size];
+        this.accessors = newAccessorArray(size);
+        this.sectionEnds = new int[size];
+        for (int i = 0; i < size; i++) {
+            Instruction<T> instruction = instructions.get(i);
+            ops[i] = instruction.op;
+            literals[i] = instruction.literal;
+            accessors[i] = instruction.accessor;
+            sectionEnds[i] = instruction.sectionEnd;
+        }
+    }
+
+    /**
+     * Compiles template source against named field accessors.
+     * @param source Template text
+     * @param fields Accessors for every field referenced by the template
+     * @param <T> Model type
+     * @return Compiled template
+     * @throws IllegalArgumentException if the source is malformed or references an unknown field
+     */
+    public static <T> EmailTemplate<T> compile(String source, Map<String, Function<T, ?>> fields) {
+        List<Instruction<T>> instructions = new ArrayList<>();
+        Deque<Instruction<T>> openSections = new ArrayDeque<>();
+        Deque<String> openNames = new ArrayDeque<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int start = source.indexOf("{{", pos);
+            if (start < 0) {
+                addLiteral(instructions, source.substring(pos));
+                break;
+            }
+            if (start > pos) {
+                addLiteral(instructions, source.substring(pos, start));
+            }
+            boolean raw = source.startsWith("{{{", start);
+            String close = raw ? "}}}" : "}}";
+            int end = source.indexOf(close, start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed tag at offset " + start);
+            }
+            String tag = source.substring(start + (raw ? 3 : 2), end).trim();
+            pos = end + close.length();
+            char kind = raw ? '&' : tag.isEmpty() ? ' ' : tag.charAt(0);
+            String name = (kind == '#' || kind == '^' || kind == '/') ? tag.substring(1).trim() : tag;
+            if (kind == '/') {
+                if (openNames.isEmpty() || !openNames.peek().equals(name)) {
+                    throw new IllegalArgumentException("Unexpected closing tag {{/" + name + "}}");
+                }
+                openNames.pop();
+                openSections.pop().sectionEnd = instructions.size();
+            } else if (kind == '#' || kind == '^') {
+                Instruction<T> section = new Instruction<>(kind == '#' ? SECTION : INVERTED_SECTION, null,
+                        field(fields, name));
+                instructions.add(section);
+                openSections.push(section);
+                openNames.push(name);
+            } else {
+                instructions.add(new Instruction<>(raw ? RAW : ESCAPED, null, field(fields, name)));
+            }
+        }
+        if (!openNames.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed section {{#" + openNames.peek() + "}}");
+        }
+        return new EmailTemplate<>(instructions);
+    }
+
+    /**
+     * Renders the template for a model.
+     * @param model Values to substitute
+     * @return Rendered text
+     */
+    public String render(T model) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        int i = 0;
+        while (i < ops.length) {
+            switch (ops[i]) {
+                case LITERAL -> buffer.append(literals[i]);
+                case ESCAPED -> appendValue(buffer, accessors[i].apply(model), true);
+                case RAW -> appendValue(buffer, accessors[i].apply(model), false);
+                case SECTION -> {
+                    if (!isPresent(accessors[i].apply(model))) {
+                        i = sectionEnds[i];
+                        continue;
+                    }
+                }
+                case INVERTED_SECTION -> {
+                    if (isPresent(accessors[i].apply(model))) {
+                        i = sectionEnds[i];
+                        continue;
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown template instruction " + ops[i]);
+            }
+            i++;
+        }
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_POOLED_BUFFER_CAPACITY) {
+            BUFFERS.set(new StringBuilder(INITIAL_BUFFER_CAPACITY));
+        }
+        return result;
+    }
+
+    /**
+     * Appends text to the buffer with HTML special characters escaped.
+     * @param text Text to escape
+     * @param out Destination buffer
+     */
+    static void escapeHtml(String text, StringBuilder out) {
+        int length = text.length();
+        int copied = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c > '>') {
+                continue;
+            }
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                // substring + append(String) copies in bulk; append(CharSequence, int, int) copies per char
+                out.append(text.substring(copied, i)).append(replacement);
+                copied = i + 1;
+            }
+        }
+        out.append(copied == 0 ? text : text.substring(copied));
+    }
+
+    /**
+     * Appends a field value; escaped collections are written as a comma-separated list.
+     */
+    private static void appendValue(StringBuilder out, Object value, boolean escape) {
+        if (value instanceof String text) {
+            appendText(out, text, escape);
+        } else if (value instanceof Collection<?> collection) {
+            String separator = escape ? ", " : "";
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    out.append(separator);
+                }
+                appendScalar(out, element, escape);
+                first = false;
+            }
+        } else {
+            appendScalar(out, value, escape);
+        }
+    }
+
+    private static void appendScalar(StringBuilder out, Object value, boolean escape) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Integer number) {
+            out.append(number.intValue());
+        } else {
+            appendText(out, value.toString(), escape);
+        }
+    }
+
+    private static void appendText(StringBuilder out, String text, boolean escape) {
+        if (escape) {
+            escapeHtml(text, out);
+        } else {
+            out.append(text);
+        }
+    }
+
+    private static boolean isPresent(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof String text) {
+            return !text.isEmpty();
+        }
+        if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+        if (value instanceof Boolean flag) {
+            return flag;
+        }
+        return true;
+    }
+
+    private static <T> Function<T, ?> field(Map<String, Function<T, ?>> fields, String name) {
+        Function<T, ?> accessor = fields.get(name);
+        if (accessor == null) {
+            throw new IllegalArgumentException("Unknown template field: " + name);
+        }
+        return accessor;
+    }
+
+    /**
+     * Adds literal text, merging it into the previous instruction when that is also a literal.
+     */
+    private static <T> void addLiteral(List<Instruction<T>> instructions, String text) {
+        int last = instructions.size() - 1;
+        if (last >= 0 && instructions.get(last).op == LITERAL) {
+            instructions.set(last, new Instruction<>(LITERAL, instructions.get(last).literal + text, null));
+        } else {
+            instructions.add(new Instruction<>(LITERAL, text, null));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, ?>[] newAccessorArray(int size) {
+        return new Function[size];
+    }
+
+    /**
+     * Instruction under construction; section ends are patched in when the closing tag is read.
+     */
+    private static final class Instruction<T> {
+        private final byte op;
+        private final String literal;
+        private final Function<T, ?> accessor;
+        private int sectionEnd;
+
+        private Instruction(byte op, String literal, Function<T, ?> accessor) {
+            this.op = op;
+            this.literal = literal;
+            this.accessor = accessor;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hiringplatform.job_service.template;
+
+import com.hiringplatform.job_service.model.CandidateProfile;
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import com.hiringplatform.job_service.model.JobPosting;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Outgoing email templates, loaded from 'templates/email' and compiled once at startup.
+ */
+@Component
+public class EmailTemplates {
+
+    private static final Map<String, Function<Application, ?>> APPLICATION_FIELDS = Map.of(
+            "role", a -> a.job().getRole(),
+            "jobId", a -> a.job().getId(),
+            "fullName", a -> a.profile().getFullName(),
+            "email", a -> a.profile().getEmail(),
+            "experience", a -> a.profile().getTotalExperience(),
+            "skills", a -> a.profile().getSkills(),
+            "resumeUrl", a -> safeUrl(a.profile().getResumeUrl())
+    );
+
+    private static final Map<String, Function<List<EmailOutboxMessage>, ?>> DIGEST_FIELDS = Map.of(
+            "count", List::size,
+            "rows", entries -> entries.stream().map(EmailOutboxMessage::getBody).toList()
+    );
+
+    private final EmailTemplate<Application> applicationReceived;
+    private final EmailTemplate<Application> applicationDigestRow;
+    private final EmailTemplate<List<EmailOutboxMessage>> applicationDigest;
+
+    public EmailTemplates() {
+        this.applicationReceived = EmailTemplate.compile(load("application-received.html"), APPLICATION_FIELDS);
+        this.applicationDigestRow = EmailTemplate.compile(load("application-digest-row.html"), APPLICATION_FIELDS);
+        this.applicationDigest = EmailTemplate.compile(load("application-digest.html"), DIGEST_FIELDS);
+    }
+
+    /**
+     * Renders the single-application notification email.
+     * @param profile Candidate profile
+     * @param job Job posting details
+     * @return HTML email body
+     */
+    public String renderApplicationReceived(CandidateProfile profile, JobPosting job) {
+        return applicationReceived.render(new Application(profile, job));
+    }
+
+    /**
+     * Renders one application as a digest table row.
+     * @param profile Candidate profile
+     * @param job Job posting details
+     * @return HTML table row
+     */
+    public String renderApplicationDigestRow(CandidateProfile profile, JobPosting job) {
+        return applicationDigestRow.render(new Application(profile, job));
+    }
+
+    /**
+     * Renders a digest email from already-rendered rows.
+     * @param entries Digest entries whose bodies are rendered rows
+     * @return HTML email body
+     */
+    public String renderApplicationDigest(List<EmailOutboxMessage> entries) {
+        return applicationDigest.render(entries);
+    }
+
+    /**
+     * Drops URLs that are not plain http(s) links so they cannot inject script into the email.
+     * @param url Candidate-supplied URL
+     * @return URL or null
+     */
+    private static String safeUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+        return trimmed.regionMatches(true, 0, "http://", 0, 7)
+                || trimmed.regionMatches(true, 0, "https://", 0, 8) ? trimmed : null;
+    }
+
+    private static String load(String name) {
+        try {
+            String source = new ClassPathResource("templates/email/" + name).getContentAsString(StandardCharsets.UTF_8);
+            return source.endsWith("\n") ? source.substring(0, source.length() - 1) : source;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load email template " + name, e);
+        }
+    }
+
+    /**
+     * Model for application email templates.
+     */
+    public record Application(CandidateProfile profile, JobPosting job) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.hiringplatform.job_service.benchmark;
+
+import com.hiringplatform.job_service.model.CandidateProfile;
+import com.hiringplatform.job_service.model.JobPosting;
+import com.hiringplatform.job_service.template.EmailTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the application notification email with the precompiled template and with the
+ * StringBuilder chain it replaced. Run with -prof gc to compare allocation per email.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private EmailTemplates emailTemplates;
+    private CandidateProfile profile;
+    private JobPosting job;
+
+    @Setup
+    public void setUp() {
+        emailTemplates = new EmailTemplates();
+        profile = new CandidateProfile();
+        profile.setFullName("Jane Doe");
+        profile.setEmail("jane.doe@example.com");
+        profile.setTotalExperience(6);
+        profile.setSkills(List.of("Java", "Spring Boot", "MongoDB", "Kubernetes", "R&D"));
+        profile.setResumeUrl("https://example.com/resumes/jane-doe.pdf");
+        job = new JobPosting();
+        job.setId("6630f2a1c9e77b2d4c8f1a23");
+        job.setRole("Senior Backend Engineer");
+    }
+
+    @Benchmark
+    public String template() {
+        return emailTemplates.renderApplicationReceived(profile, job);
+    }
+
+    @Benchmark
+    public String legacyBuilder() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<html><body>");
+        sb.append("<h1>New Application Received</h1>");
+        sb.append("<p>A candidate has applied for the position: <strong>").append(job.getRole())
+                .append("</strong> (Job ID: ").append(job.getId()).append(")</p>");
+        sb.append("<hr>");
+        sb.append("<h2>Candidate Details:</h2>");
+        sb.append("<table border='0' cellpadding='5' style='border-collapse: collapse;'>");
+        sb.append("<tr><td style='vertical-align: top;'><strong>Name:</strong></td><td>").append(profile.getFullName())
+                .append("</td></tr>");
+        sb.append("<tr><td style='vertical-align: top;'><strong>Email:</strong></td><td>").append(profile.getEmail())
+                .append("</td></tr>");
+        sb.append("<tr><td style='vertical-align: top;'><strong>Experience:</strong></td><td>")
+                .append(profile.getTotalExperience()).append(" years</td></tr>");
+        if (profile.getSkills() != null && !profile.getSkills().isEmpty()) {
+            sb.append("<tr><td style='vertical-align: top;'><strong>Skills:</strong></td><td>")
+                    .append(String.join(", ", profile.getSkills())).append("</td></tr>");
+        } else {
+            sb.append("<tr><td style='vertical-align: top;'><strong>Skills:</strong></td><td>Not provided</td></tr>");
+        }
+        if (profile.getResumeUrl() != null && !profile.getResumeUrl().isEmpty()) {
+            sb.append("<tr><td style='vertical-align: top;'><strong>Resume:</strong></td><td><a href='")
+                    .append(profile.getResumeUrl()).append("' target='_blank'>View Resume</a></td></tr>");
+        } else {
+            sb.append("<tr><td style='vertical-align: top;'><strong>Resume:</strong></td><td>Not provided</td></tr>");
+        }
+        sb.append("</table>");
+        sb.append("<hr>");
+        sb.append("<p style='font-size: 0.9em; color: gray;'>This is an automated email from the Hiring Platform.</p>");
+        sb.append("</body></html>");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.hiringplatform.job_service.benchmark;
+
+import com.hiringplatform.job_service.matching.SkillMatchEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 match latency with 100k postings and 100k candidates drawn from a skewed skill vocabulary,
+ * so popular skills produce long per-skill lists as they would in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillMatchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 2000;
+
+    @Param({"100000"})
+    public int entries;
+
+    private SkillMatchEngine engine;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        engine = new SkillMatchEngine();
+        for (int i = 0; i < entries; i++) {
+            engine.putPosting("job-" + i, randomSkills(random), random.nextInt(0, 12));
+            engine.putCandidate("user-" + i, randomSkills(random), random.nextInt(0, 15));
+        }
+    }
+
+    @Benchmark
+    public List<SkillMatchEngine.Match> topPostingsForCandidate() {
+        next = (next + 7919) % entries;
+        return engine.topPostingsForCandidate("user-" + next, 10);
+    }
+
+    @Benchmark
+    public List<SkillMatchEngine.Match> topCandidatesForPosting() {
+        next = (next + 7919) % entries;
+        return engine.topCandidatesForPosting("job-" + next, 10);
+    }
+
+    /**
+     * Picks 3 to 10 skills; squaring a uniform draw makes low skill IDs far more common.
+     */
+    private static List<String> randomSkills(SplittableRandom random) {
+        int count = random.nextInt(3, 11);
+        List<String> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble();
+            skills.add("skill-" + (int) (u * u * VOCABULARY_SIZE));
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hiringplatform.job_service.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillMatchEngineTest {
+
+    @Test
+    void ranksPostingsBySkillCoverageThenExperienceFit() {
+        SkillMatchEngine engine = new SkillMatchEngine();
+        engine.putPosting("backend", List.of("Java", "Spring"), 3);
+        engine.putPosting("senior", List.of("Java", "Spring"), 10);
+        engine.putPosting("fullstack", List.of("Java", "React", "CSS", "Spring"), 2);
+        engine.putPosting("design", List.of("Figma"), 1);
+        engine.putCandidate("jane", List.of("java", " Spring "), 5);
+
+        List<SkillMatchEngine.Match> matches = engine.topPostingsForCandidate("jane", 10);
+
+        assertEquals(List.of("backend", "senior", "fullstack"), matches.stream().map(SkillMatchEngine.Match::id).toList());
+        assertEquals(2, matches.get(0).matchedSkills());
+        assertEquals(1.0, matches.get(0).score(), 1e-9);
+        assertEquals(List.of("backend"), engine.topPostingsForCandidate("jane", 1).stream()
+                .map(SkillMatchEngine.Match::id).toList());
+    }
+
+    @Test
+    void ranksCandidatesAndAppliesUpdates() {
+        SkillMatchEngine engine = new SkillMatchEngine();
+        engine.putPosting("backend", List.of("Java", "Spring"), 4);
+        engine.putCandidate("a", List.of("Java"), 4);
+        engine.putCandidate("b", List.of("Java", "Spring"), 2);
+        engine.putCandidate("c", List.of("Python"), 9);
+
+        assertEquals(List.of("b", "a"), engine.topCandidatesForPosting("backend", 10).stream()
+                .map(SkillMatchEngine.Match::id).toList());
+
+        engine.putCandidate("a", List.of("Java", "Spring"), 6);
+        engine.retainCandidates(Set.of("a", "c"));
+
+        assertEquals(List.of("a"), engine.topCandidatesForPosting("backend", 10).stream()
+                .map(SkillMatchEngine.Match::id).toList());
+        engine.removePosting("backend");
+        assertTrue(engine.topCandidatesForPosting("backend", 10).isEmpty());
+        assertTrue(engine.topPostingsForCandidate("a", 10).isEmpty());
+    }
+}
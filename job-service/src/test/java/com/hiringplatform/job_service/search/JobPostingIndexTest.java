@@ -0,0 +1,96 @@
+package com.hiringplatform.job_service.search;
+
+import com.hiringplatform.job_service.dto.JobSearchQuery;
+import com.hiringplatform.job_service.dto.JobSearchResult;
+import com.hiringplatform.job_service.model.JobPosting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobPostingIndexTest {
+
+    private JobPostingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobPostingIndex();
+        index.put(posting("1", "Java Developer", "Build Spring Boot services.", 3, "Java", "Spring"));
+        index.put(posting("2", "Frontend Engineer", "React work, some Java tooling.", 2, "React", "TypeScript"));
+        index.put(posting("3", "Senior Java Engineer", "Lead Java teams.", 8, "Java", "Kubernetes"));
+    }
+
+    @Test
+    void ranksRoleAndSkillMatchesAboveDescriptionMatches() {
+        List<String> ids = ids(index.search(query("java"), JobPosting::getId));
+
+        assertEquals(3, ids.size());
+        assertEquals("2", ids.get(2));
+    }
+
+    @Test
+    void appliesExperienceAndSkillFilters() {
+        JobSearchQuery query = query("java");
+        query.setMinExperience(5);
+        assertEquals(List.of("3"), ids(index.search(query, JobPosting::getId)));
+
+        query = query("java");
+        query.setSkills(List.of("spring"));
+        assertEquals(List.of("1"), ids(index.search(query, JobPosting::getId)));
+    }
+
+    @Test
+    void pagesWithSearchAfterCursor() {
+        JobSearchQuery query = query("java");
+        query.setSort(JobSearchQuery.SortMode.EXPERIENCE);
+        query.setPageSize(2);
+        JobSearchResult<String> first = index.search(query, JobPosting::getId);
+        assertEquals(List.of("2", "1"), first.getItems());
+        assertNotNull(first.getNextCursor());
+
+        query.setSearchAfter(first.getNextCursor());
+        JobSearchResult<String> second = index.search(query, JobPosting::getId);
+        assertEquals(List.of("3"), second.getItems());
+        assertNull(second.getNextCursor());
+
+        query.setSearchAfter("not-a-cursor");
+        assertThrows(IllegalArgumentException.class, () -> index.search(query, JobPosting::getId));
+    }
+
+    @Test
+    void reindexesAndRemovesPostings() {
+        index.put(posting("2", "Designer", "Figma.", 2, "Figma"));
+        assertEquals(List.of("2"), ids(index.search(query("figma"), JobPosting::getId)));
+        assertTrue(ids(index.search(query("react"), JobPosting::getId)).isEmpty());
+
+        index.remove("2");
+        assertTrue(ids(index.search(query("figma"), JobPosting::getId)).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    private static List<String> ids(JobSearchResult<String> result) {
+        return result.getItems();
+    }
+
+    private static JobSearchQuery query(String text) {
+        JobSearchQuery query = new JobSearchQuery();
+        query.setText(text);
+        return query;
+    }
+
+    private static JobPosting posting(String id, String role, String description, int experience, String... skills) {
+        JobPosting posting = new JobPosting();
+        posting.setId(id);
+        posting.setRole(role);
+        posting.setDescription(description);
+        posting.setExperience(experience);
+        posting.setSkillSet(List.of(skills));
+        return posting;
+    }
+}
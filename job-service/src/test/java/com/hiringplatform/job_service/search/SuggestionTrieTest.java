@@ -0,0 +1,54 @@
+package com.hiringplatform.job_service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionTrieTest {
+
+    @Test
+    void ranksByFrequencyAndMatchesAnyWordStart() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("Java");
+        trie.add("Java");
+        trie.add("JavaScript");
+        trie.add("Senior Java Developer");
+
+        assertEquals(List.of("Java", "JavaScript", "Senior Java Developer"), trie.suggest("jav", 10));
+        assertEquals(List.of("Senior Java Developer"), trie.suggest("dev", 10));
+        assertEquals(List.of("Java"), trie.suggest("JA", 1));
+        assertEquals(List.of(), trie.suggest("python", 10));
+        assertEquals(List.of(), trie.suggest("jav", -1));
+    }
+
+    @Test
+    void reranksAfterRemoval() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.add("React");
+        trie.add("React");
+        trie.add("Redux");
+        trie.remove("React");
+        trie.remove("React");
+        trie.add("Redux");
+
+        assertEquals(List.of("Redux"), trie.suggest("re", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    void keepsOnlyTheTopSuggestionsPerPrefix() {
+        SuggestionTrie trie = new SuggestionTrie();
+        for (int i = 0; i < 15; i++) {
+            for (int j = 0; j <= i; j++) {
+                trie.add("skill" + i);
+            }
+        }
+
+        List<String> suggestions = trie.suggest("skill", 20);
+        assertEquals(SuggestionTrie.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("skill14", suggestions.get(0));
+        assertEquals("skill5", suggestions.get(SuggestionTrie.MAX_SUGGESTIONS - 1));
+    }
+}
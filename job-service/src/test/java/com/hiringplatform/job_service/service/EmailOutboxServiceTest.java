@@ -0,0 +1,135 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import com.hiringplatform.job_service.model.EmailOutboxMessage.Status;
+import com.hiringplatform.job_service.repository.EmailOutboxRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the outbox's claim, lease and retry bookkeeping against the Mongo operations it issues.
+ */
+class EmailOutboxServiceTest {
+
+    private static final long LEASE_SECONDS = 300;
+
+    private MongoTemplate mongoTemplate;
+
+    private EmailOutboxRepository repository;
+
+    private EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = mock(EmailOutboxRepository.class);
+        service = new EmailOutboxService();
+        ReflectionTestUtils.setField(service, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(service, "emailOutboxRepository", repository);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(service, "backoffMaxSeconds", 100L);
+        ReflectionTestUtils.setField(service, "leaseSeconds", LEASE_SECONDS);
+    }
+
+    @Test
+    void claimTakesDueAndExpiredLeasesUnderOneToken() {
+        EmailOutboxMessage due = new EmailOutboxMessage();
+        due.setId("m1");
+        when(mongoTemplate.find(any(Query.class), eq(EmailOutboxMessage.class))).thenReturn(List.of(due));
+        when(repository.findByClaimToken(anyString())).thenReturn(List.of(due));
+        long before = System.currentTimeMillis();
+
+        assertEquals(List.of(due), service.claimDue(10));
+
+        ArgumentCaptor<Query> candidates = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(candidates.capture(), eq(EmailOutboxMessage.class));
+        List<?> clauses = candidates.getValue().getQueryObject().get("$or", List.class);
+        Document expiredLease = (Document) clauses.get(1);
+        assertEquals(Status.SENDING, expiredLease.get("status"));
+        assertTrue(expiredLease.containsKey("lockedUntil"));
+        assertEquals(10, candidates.getValue().getLimit());
+
+        ArgumentCaptor<Update> claim = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), claim.capture(), eq(EmailOutboxMessage.class));
+        Document set = claim.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(Status.SENDING, set.get("status"));
+        String token = set.getString("claimToken");
+        verify(repository).findByClaimToken(token);
+        long lockedUntil = set.get("lockedUntil", Date.class).getTime();
+        assertTrue(lockedUntil >= before + LEASE_SECONDS * 1000);
+    }
+
+    @Test
+    void backoffDoublesUpToTheMaximum() {
+        assertEquals(30, service.backoffSeconds(1));
+        assertEquals(60, service.backoffSeconds(2));
+        assertEquals(100, service.backoffSeconds(3));
+        assertEquals(100, service.backoffSeconds(40));
+    }
+
+    @Test
+    void failureReschedulesUntilMaxAttemptsThenGivesUp() {
+        EmailOutboxMessage message = claimed(0);
+        long before = System.currentTimeMillis();
+        assertTrue(service.markFailed(message, new RuntimeException("SMTP down")));
+        Document set = lastFailureUpdate("m1", "claim-1");
+        assertEquals(Status.PENDING, set.get("status"));
+        assertEquals(1, set.getInteger("attempts"));
+        assertTrue(set.get("nextAttemptAt", Date.class).getTime() >= before + 30_000);
+
+        assertFalse(service.markFailed(claimed(2), new RuntimeException("SMTP down")));
+        set = lastFailureUpdate("m1", "claim-1");
+        assertEquals(Status.FAILED, set.get("status"));
+        assertEquals(3, set.getInteger("attempts"));
+    }
+
+    @Test
+    void sentIsRecordedOnlyUnderTheClaimingToken() {
+        service.markSent("claim-1", List.of("m1", "m2"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(query.capture(), any(Update.class), eq(EmailOutboxMessage.class));
+        assertEquals("claim-1", query.getValue().getQueryObject().get("claimToken"));
+    }
+
+    private Document lastFailureUpdate(String id, String claimToken) {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, atLeastOnce())
+                .updateFirst(query.capture(), update.capture(), eq(EmailOutboxMessage.class));
+        Document filter = query.getValue().getQueryObject();
+        assertEquals(id, filter.get("_id"));
+        assertEquals(claimToken, filter.get("claimToken"));
+        return update.getValue().getUpdateObject().get("$set", Document.class);
+    }
+
+    private static EmailOutboxMessage claimed(int attempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId("m1");
+        message.setStatus(Status.SENDING);
+        message.setClaimToken("claim-1");
+        message.setAttempts(attempts);
+        return message;
+    }
+}
@@ -0,0 +1,152 @@
+package com.hiringplatform.job_service.service;
+
+import com.hiringplatform.job_service.model.EmailOutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drains claimed outbox messages through an in-process SMTP server and checks grouping and failure handling.
+ */
+class EmailOutboxWorkerTest {
+
+    private static final String CLAIM = "claim-1";
+
+    private SmtpStandIn smtp;
+
+    private EmailOutboxService outbox;
+
+    private ApplicationNotificationService notifications;
+
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new SmtpStandIn("unknown@example.com");
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getPort());
+        Properties properties = new Properties();
+        properties.put("mail.smtp.localhost", "localhost");
+        properties.put("mail.smtp.timeout", "5000");
+        properties.put("mail.smtp.connectiontimeout", "5000");
+        mailSender.setJavaMailProperties(properties);
+        EmailService emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "mailSender", mailSender);
+        ReflectionTestUtils.setField(emailService, "fromEmailAddress", "jobs@example.com");
+
+        outbox = mock(EmailOutboxService.class);
+        notifications = mock(ApplicationNotificationService.class);
+        when(notifications.buildDigestSubject(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).size() + " New Applications");
+        when(notifications.buildDigestBody(anyList())).thenReturn("<table></table>");
+
+        worker = new EmailOutboxWorker();
+        ReflectionTestUtils.setField(worker, "emailOutboxService", outbox);
+        ReflectionTestUtils.setField(worker, "emailService", emailService);
+        ReflectionTestUtils.setField(worker, "applicationNotificationService", notifications);
+        ReflectionTestUtils.setField(worker, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(worker, "threads", 2);
+        ReflectionTestUtils.setField(worker, "batchSize", 100);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        worker.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    void sendsEachRecipientsMessagesOverOneConnectionAndMergesDigests() {
+        EmailOutboxMessage first = message("m1", "a@example.com", false);
+        EmailOutboxMessage digest1 = message("d1", "a@example.com", true);
+        EmailOutboxMessage digest2 = message("d2", "a@example.com", true);
+        EmailOutboxMessage other = message("m2", "b@example.com", false);
+        when(outbox.claimDue(100)).thenReturn(List.of(first, digest1, other, digest2));
+
+        worker.drain();
+
+        assertEquals(3, smtp.getReceived().size());
+        assertEquals(2, smtp.getConnections());
+        assertTrue(smtp.getReceived().stream()
+                .anyMatch(r -> r.recipients().equals(List.of("a@example.com")) && r.data().contains("Subject: 2 New Applications")));
+        assertEquals(Set.of("m1", "d1", "d2", "m2"), sentIds(2));
+        verify(outbox, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void poisonMessagesAreRecordedAsFailedAttempts() {
+        EmailOutboxMessage noRecipient = message("m1", null, false);
+        EmailOutboxMessage digest1 = message("d1", "c@example.com", true);
+        EmailOutboxMessage digest2 = message("d2", "c@example.com", true);
+        EmailOutboxMessage good = message("m2", "b@example.com", false);
+        when(outbox.claimDue(100)).thenReturn(List.of(noRecipient, digest1, digest2, good));
+        when(notifications.buildDigestBody(anyList())).thenThrow(new IllegalStateException("Template failed"));
+
+        worker.drain();
+
+        verify(outbox).markFailed(eq(noRecipient), any());
+        verify(outbox).markFailed(eq(digest1), any());
+        verify(outbox).markFailed(eq(digest2), any());
+        assertEquals(1, smtp.getReceived().size());
+        assertEquals(Set.of("m2"), sentIds(1));
+    }
+
+    @Test
+    void rejectedRecipientIsRetriedWithoutBlockingOthers() {
+        EmailOutboxMessage rejected = message("m1", "unknown@example.com", false);
+        EmailOutboxMessage good = message("m2", "b@example.com", false);
+        when(outbox.claimDue(100)).thenReturn(List.of(rejected, good));
+
+        worker.drain();
+
+        verify(outbox).markFailed(eq(rejected), any());
+        verify(outbox, never()).markFailed(eq(good), any());
+        assertEquals(1, smtp.getReceived().size());
+        assertTrue(sentIds(2).contains("m2"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> sentIds(int calls) {
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(outbox, times(calls)).markSent(eq(CLAIM), ids.capture());
+        Set<String> all = new HashSet<>();
+        ids.getAllValues().forEach(all::addAll);
+        return all;
+    }
+
+    private static EmailOutboxMessage message(String id, String to, boolean digest) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(id);
+        message.setTo(to);
+        message.setSubject("Subject " + id);
+        message.setBody("<p>" + id + "</p>");
+        message.setDigest(digest);
+        message.setStatus(EmailOutboxMessage.Status.SENDING);
+        message.setClaimToken(CLAIM);
+        return message;
+    }
+}
@@ -0,0 +1,45 @@
+package com.hiringplatform.job_service.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmailTemplateTest {
+
+    private record Model(String name, List<String> tags, String html) {
+    }
+
+    private static final Map<String, Function<Model, ?>> FIELDS = Map.of(
+            "name", Model::name,
+            "tags", Model::tags,
+            "html", Model::html
+    );
+
+    @Test
+    void escapesValuesButNotRawFields() {
+        EmailTemplate<Model> template = EmailTemplate.compile("<p>{{name}}</p>{{{html}}}", FIELDS);
+
+        assertEquals("<p>&lt;b&gt;Tom &amp; &#39;Jerry&#39;&lt;/b&gt;</p><i>ok</i>",
+                template.render(new Model("<b>Tom & 'Jerry'</b>", List.of(), "<i>ok</i>")));
+    }
+
+    @Test
+    void rendersSectionsAndInvertedSections() {
+        EmailTemplate<Model> template = EmailTemplate.compile(
+                "{{#tags}}Tags: {{tags}}{{/tags}}{{^tags}}Not provided{{/tags}}", FIELDS);
+
+        assertEquals("Tags: a, b", template.render(new Model("x", List.of("a", "b"), null)));
+        assertEquals("Not provided", template.render(new Model("x", List.of(), null)));
+    }
+
+    @Test
+    void rejectsUnknownFieldsAndUnbalancedSections() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{missing}}", FIELDS));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{#tags}}open", FIELDS));
+    }
+}